@@ -0,0 +1,32 @@
+package com.LucasH.park_api.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class SpringAsyncConfig implements WebMvcConfigurer {
+
+    // Respostas escritas fora da thread da requisição (exportação, stream SSE) rodam no pool de
+    // tarefas do Spring, e não em uma thread nova por requisição. O tempo limite padrão vale para
+    // o stream SSE; a exportação define o dela no WebAsyncTask.
+    private final AsyncTaskExecutor taskExecutor;
+    private final Duration timeout;
+
+    public SpringAsyncConfig(@Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                             @Value("${park.mvc.async.timeout:30m}") Duration timeout) {
+        this.taskExecutor = taskExecutor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(taskExecutor);
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
@@ -0,0 +1,18 @@
+package com.LucasH.park_api.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Habilita os métodos anotados com @Timed (check-in, check-out, alocação de vagas).
+// As métricas ficam expostas em /actuator/prometheus junto com as do pool de conexões (hikaricp_*)
+// e das requisições HTTP (http_server_requests_*).
+@Configuration
+public class SpringMetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.LucasH.park_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Habilita os métodos @Scheduled (jobs periódicos do pacote job)
+@Configuration
+@EnableScheduling
+public class SpringSchedulingConfig {
+}
@@ -2,6 +2,9 @@ package com.LucasH.park_api.config;
 
 import com.LucasH.park_api.jwt.JwtAuthenticationEntryPoint;
 import com.LucasH.park_api.jwt.JwtAuthorizationFilter;
+import com.LucasH.park_api.jwt.PasswordEncoderMedido;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -43,11 +46,20 @@ public class SpringSecurityConfig {
                 .formLogin(form -> form.disable()) // Desabilita o login via formulário e o HTTP Basic authentication, pois será usada autenticação via JWT.
                 .httpBasic(basic -> basic.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        //Despachos ASYNC (fim da exportação em StreamingResponseBody) e ERROR continuam uma requisição
+                        // já autorizada no despacho original; o filtro JWT (OncePerRequestFilter) não roda neles
                         .requestMatchers(HttpMethod.POST, "api/v1/usuarios").permitAll()
                         //Permite que qualquer um acesse o endpoint de criação de usuários (api/v1/usuarios)
                         .requestMatchers(HttpMethod.POST, "api/v1/auth").permitAll()
                         //Permite que qualquer um acesse o endpoint de autenticação (api/v1/auth)
+                        .requestMatchers(HttpMethod.GET, "api/v1/vagas/ocupacao", "api/v1/vagas/ocupacao/eventos").permitAll()
+                        //Totais de ocupação consultados pelos painéis das entradas, sem token
                         .requestMatchers(DOCUMENTATION_OPENAPI).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        //Health check sem token
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").hasAuthority("ADMIN")
+                        //Métricas expõem o volume de uso da aplicação: o Prometheus coleta com o token de um ADMIN
                         .anyRequest().authenticated() // Todas as outras requisições precisam estar autenticadas
                 ).sessionManagement(
                         session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -69,8 +81,8 @@ public class SpringSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry registry) {
+        return new PasswordEncoderMedido(new BCryptPasswordEncoder(), registry);
         //Define um bean para o codificador de senhas BCryptPasswordEncoder, usado para
         // armazenar senhas de forma segura, já que BCrypt é um algoritmo de hashing forte.
     }
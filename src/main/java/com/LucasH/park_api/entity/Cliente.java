@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -20,20 +24,25 @@ import java.util.Objects;
 @Entity
 @Table(name = "clientes")
 @EntityListeners(AuditingEntityListener.class)
+// Cache de segundo nível: o check-in busca o cliente pelo CPF (id natural) sem ir ao banco
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clientes")
+@NaturalIdCache(region = "clientes-cpf")
 public class Cliente implements Serializable {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 100)
     private String nome;
 
+    @NaturalId
     @Column(name = "cpf", nullable = false, unique = true, length = 11)
     private String cpf;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_usuario", nullable = false)
     private Usuario usuario;
 
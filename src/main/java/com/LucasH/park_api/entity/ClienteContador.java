@@ -0,0 +1,55 @@
+package com.LucasH.park_api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+// Contador de estacionamentos concluídos do cliente, usado no cálculo do desconto de fidelidade.
+// Fica em uma tabela própria para o incremento no check-out não concorrer com as atualizações
+// do cadastro do cliente.
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "clientes_contadores")
+public class ClienteContador implements Serializable {
+
+    @Id
+    @Column(name = "id_cliente")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_cliente")
+    private Cliente cliente;
+
+    @Column(name = "estacionamentos_completos", nullable = false)
+    private long estacionamentosCompletos;
+
+    public ClienteContador(Cliente cliente, long estacionamentosCompletos) {
+        this.cliente = cliente;
+        this.estacionamentosCompletos = estacionamentosCompletos;
+    }
+
+    // Retorna o total anterior ao incremento, que é o valor usado no desconto
+    public long incrementar() {
+        return estacionamentosCompletos++;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClienteContador that = (ClienteContador) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -21,12 +21,14 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+// Esquema e índices mantidos pelas migrações em db/migration
 @Table(name = "cliente_tem_vagas")
 @EntityListeners(AuditingEntityListener.class)
 public class ClienteVaga implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_tem_vagas_seq")
+    @SequenceGenerator(name = "cliente_tem_vagas_seq", sequenceName = "cliente_tem_vagas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "numero_recibo", nullable = false, unique = true, length = 15)
@@ -0,0 +1,72 @@
+package com.LucasH.park_api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Somente leitura: estacionamento já movido para cliente_tem_vagas_arquivo pelo arquivamento.
+// Consultado direto na tabela, com os índices dela, quando a view do histórico não usaria índice.
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "cliente_tem_vagas_arquivo")
+public class ClienteVagaArquivo implements Serializable {
+
+    @Id
+    private Long id;
+
+    @Column(name = "numero_recibo")
+    private String recibo;
+
+    @Column(name = "placa")
+    private String placa;
+
+    @Column(name = "marca")
+    private String marca;
+
+    @Column(name = "modelo")
+    private String modelo;
+
+    @Column(name = "cor")
+    private String cor;
+
+    @Column(name = "data_entrada")
+    private LocalDateTime dataEntrada;
+
+    @Column(name = "data_saida")
+    private LocalDateTime dataSaida;
+
+    @Column(name = "valor", columnDefinition = "decimal(7,2)")
+    private BigDecimal valor;
+
+    @Column(name = "desconto", columnDefinition = "decimal(7,2)")
+    private BigDecimal desconto;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_cliente")
+    private Cliente cliente;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_vaga")
+    private Vaga vaga;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClienteVagaArquivo that = (ClienteVagaArquivo) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,72 @@
+package com.LucasH.park_api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Somente leitura: registro da view cliente_tem_vagas_historico, que junta os estacionamentos
+// da tabela principal com os já arquivados. Usado pelas listagens paginadas do histórico.
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "cliente_tem_vagas_historico")
+public class ClienteVagaHistorico implements Serializable {
+
+    @Id
+    private Long id;
+
+    @Column(name = "numero_recibo")
+    private String recibo;
+
+    @Column(name = "placa")
+    private String placa;
+
+    @Column(name = "marca")
+    private String marca;
+
+    @Column(name = "modelo")
+    private String modelo;
+
+    @Column(name = "cor")
+    private String cor;
+
+    @Column(name = "data_entrada")
+    private LocalDateTime dataEntrada;
+
+    @Column(name = "data_saida")
+    private LocalDateTime dataSaida;
+
+    @Column(name = "valor", columnDefinition = "decimal(7,2)")
+    private BigDecimal valor;
+
+    @Column(name = "desconto", columnDefinition = "decimal(7,2)")
+    private BigDecimal desconto;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_cliente")
+    private Cliente cliente;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_vaga")
+    private Vaga vaga;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClienteVagaHistorico that = (ClienteVagaHistorico) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
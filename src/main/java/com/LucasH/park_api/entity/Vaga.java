@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -21,11 +25,17 @@ import java.util.Objects;
 @Entity
 @Table(name = "vagas")
 @EntityListeners(AuditingEntityListener.class)
+// Cache de segundo nível: a consulta pelo código (id natural) não vai ao banco.
+// As alocações leem a vaga com lock de escrita, direto do banco, e atualizam o cache no commit.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vagas")
+@NaturalIdCache(region = "vagas-codigo")
 public class Vaga implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vagas_seq")
+    @SequenceGenerator(name = "vagas_seq", sequenceName = "vagas_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(name = "codigo", nullable = false, unique = true, length = 4)
     private String codigo;
 
@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class CursorInvalidoException extends RuntimeException {
+    public CursorInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class ExportacaoInvalidaException extends RuntimeException {
+    public ExportacaoInvalidaException(String message) {
+        super(message);
+    }
+}
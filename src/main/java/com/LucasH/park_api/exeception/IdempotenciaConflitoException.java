@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class IdempotenciaConflitoException extends RuntimeException {
+    public IdempotenciaConflitoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class IdempotenciaIndisponivelException extends RuntimeException {
+    public IdempotenciaIndisponivelException(String message) {
+        super(message);
+    }
+}
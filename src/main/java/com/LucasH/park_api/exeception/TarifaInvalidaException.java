@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class TarifaInvalidaException extends RuntimeException {
+    public TarifaInvalidaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.LucasH.park_api.exeception;
+
+public class VeiculoJaEstacionadoException extends RuntimeException {
+    public VeiculoJaEstacionadoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,62 @@
+package com.LucasH.park_api.job;
+
+import com.LucasH.park_api.service.ClienteVagaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Arquivamento periódico dos estacionamentos encerrados há mais de park.arquivamento.idade.
+// As linhas saem de cliente_tem_vagas em lotes, cada um em sua própria transação, para a tabela
+// do check-in/check-out continuar pequena. As listagens de histórico leem as duas tabelas.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "park.arquivamento.habilitado", havingValue = "true")
+public class ArquivamentoEstacionamentos {
+
+    private final ClienteVagaService clienteVagaService;
+    private final Duration idade;
+    private final int tamanhoLote;
+    private final Duration pausaEntreLotes;
+
+    public ArquivamentoEstacionamentos(ClienteVagaService clienteVagaService,
+                                       @Value("${park.arquivamento.idade:90d}") Duration idade,
+                                       @Value("${park.arquivamento.tamanho-lote:1000}") int tamanhoLote,
+                                       @Value("${park.arquivamento.pausa-entre-lotes:100ms}") Duration pausaEntreLotes) {
+        this.clienteVagaService = clienteVagaService;
+        this.idade = idade;
+        this.tamanhoLote = tamanhoLote;
+        this.pausaEntreLotes = pausaEntreLotes;
+    }
+
+    @Scheduled(cron = "${park.arquivamento.cron:0 0 3 * * *}")
+    public void executar() {
+        arquivar(LocalDateTime.now().minus(idade));
+    }
+
+    public long arquivar(LocalDateTime limite) {
+        long total = 0;
+        int arquivados;
+        do {
+            arquivados = clienteVagaService.arquivarLote(limite, tamanhoLote);
+            total += arquivados;
+        } while (arquivados == tamanhoLote && pausar());
+        log.info("Arquivamento concluído: {} estacionamentos encerrados antes de {}", total, limite);
+        return total;
+    }
+
+    // Pausa entre os lotes para o arquivamento não disputar o banco com o check-in/check-out
+    private boolean pausar() {
+        try {
+            Thread.sleep(pausaEntreLotes.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.LucasH.park_api.job;
+
+import com.LucasH.park_api.repository.ClienteContadorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Carga inicial dos contadores de fidelidade a partir do histórico de cliente_tem_vagas.
+// Deve ser executada uma única vez, subindo a aplicação com park.fidelidade.backfill=true
+// antes de liberar o tráfego de check-out.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "park.fidelidade.backfill", havingValue = "true")
+public class ContadorFidelidadeBackfill implements ApplicationRunner {
+
+    private final ClienteContadorRepository contadorRepository;
+
+    public ContadorFidelidadeBackfill(ClienteContadorRepository contadorRepository) {
+        this.contadorRepository = contadorRepository;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int atualizados = contadorRepository.recalcularExistentes();
+        int inseridos = contadorRepository.inserirFaltantes();
+        log.info("Contadores de fidelidade recalculados: {} atualizados, {} criados", atualizados, inseridos);
+    }
+}
@@ -1,11 +1,15 @@
 package com.LucasH.park_api.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,6 +31,26 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUserDetailsService detailsService;
 
+    @Autowired
+    private JwtTokenCache tokenCache;
+
+    private MeterRegistry meterRegistry;
+    // Timers da métrica park.jwt.validacao criados uma vez, um por resultado
+    private Timer validacaoValida;
+    private Timer validacaoInvalida;
+
+    // true: o usuário autenticado é carregado do banco em toda requisição (modo estrito).
+    // false: é montado a partir das claims do token, que já foi verificado.
+    @Value("${park.jwt.principal-do-banco:false}")
+    private boolean principalDoBanco;
+
+    @Autowired
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.validacaoValida = meterRegistry.timer("park.jwt.validacao", "resultado", "valido");
+        this.validacaoInvalida = meterRegistry.timer("park.jwt.validacao", "resultado", "invalido");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -43,24 +67,23 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             // (chama filterChain.doFilter(request, response)).
         }
 
-        if (!JwtUtils.isTokenValid(token)) {
+        Timer.Sample validacao = Timer.start(meterRegistry);
+        Claims claims = tokenCache.verificar(token);
+        validacao.stop(claims == null ? validacaoInvalida : validacaoValida);
+        //Tempo da validação do token (assinatura na primeira requisição, cache nas seguintes)
+        if (claims == null) {
             log.warn("JWT Token está inválido ou expirado.");
             filterChain.doFilter(request, response);
             return;
-            //Após verificar a presença do token, o método JwtUtils.isTokenValid(token)
-            // é chamado para verificar se o token é
-            // válido (se está assinado corretamente e não expirou).
+            //Após verificar a presença do token, o cache de tokens é consultado para verificar se o token é
+            // válido (se está assinado corretamente e não expirou). A assinatura só é verificada
+            // na primeira requisição com o token; as seguintes reaproveitam as claims já verificadas.
             //Se o token não for válido, a requisição é encerrada (a requisição continua
             // sem modificar o contexto de segurança).
         }
 
-        String username = JwtUtils.getUsernameFromToken(token);
-        //Se o token for válido, o nome de usuário associado ao token é extraído através
-        // do método JwtUtils.getUsernameFromToken(token).
-
-
-        toAuthentication(request, username);
-        //Após obter o nome de usuário, o método toAuthentication(request, username)
+        toAuthentication(request, toUserDetails(claims));
+        //Após obter as claims, o método toAuthentication(request, userDetails)
         // é chamado para autenticar o usuário. Aqui está o que acontece nesse método:
 
 
@@ -68,9 +91,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     }
 
-    private void toAuthentication(HttpServletRequest request, String username) {
-        UserDetails userDetails = detailsService.loadUserByUsername(username);
-        //é chamado para carregar as informações do usuário com base no nome de usuário.
+    private UserDetails toUserDetails(Claims claims) {
+        if (principalDoBanco || claims.get(JwtUtils.CLAIM_ID) == null) {
+            return detailsService.loadUserByUsername(claims.getSubject());
+            //Modo estrito, ou token emitido antes de levar o id: carrega as informações
+            // do usuário do banco com base no nome de usuário.
+        }
+        return JwtUserDetails.fromClaims(claims);
+        //O id, o nome de usuário e o papel (role) vêm do token, sem consultar a tabela de usuários.
+    }
+
+    private void toAuthentication(HttpServletRequest request, UserDetails userDetails) {
 
         UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
                 .authenticated(userDetails, null, userDetails.getAuthorities());
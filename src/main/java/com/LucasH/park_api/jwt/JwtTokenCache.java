@@ -0,0 +1,80 @@
+package com.LucasH.park_api.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cache dos tokens JWT já verificados. O mesmo token é enviado em todas as requisições do usuário
+// durante a sua validade; com o cache a assinatura é verificada uma única vez e as próximas
+// requisições só consultam o mapa.
+// A chave é o próprio token: o mapa compara o token inteiro e não apenas o seu hash, então um token
+// diferente com o mesmo hash nunca reaproveita a verificação de outro.
+// A entrada deixa de valer quando passa o "exp" do token e o tamanho do cache é limitado.
+@Slf4j
+@Component
+public class JwtTokenCache {
+
+    private static final long INTERVALO_LIMPEZA_MILLIS = 1_000;
+
+    private final Map<String, Claims> tokens = new ConcurrentHashMap<>();
+    private final int tamanhoMaximo;
+    private volatile long proximaLimpeza;
+
+    public JwtTokenCache(@Value("${park.jwt.cache.tamanho-maximo:10000}") int tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    // Retorna as claims do token ou null se o token for inválido ou estiver expirado
+    public Claims verificar(String token) {
+        String chave = JwtUtils.refactorToken(token);
+        Claims claims = tokens.get(chave);
+        if (claims != null) {
+            if (!isExpirado(claims, System.currentTimeMillis())) {
+                return claims;
+            }
+            tokens.remove(chave, claims);
+        }
+
+        claims = JwtUtils.getClaimsFromToken(chave);
+        if (claims != null) {
+            guardar(chave, claims);
+        }
+        return claims;
+    }
+
+    public int getTamanho() {
+        return tokens.size();
+    }
+
+    private void guardar(String chave, Claims claims) {
+        if (tokens.size() >= tamanhoMaximo) {
+            removerExpirados();
+            if (tokens.size() >= tamanhoMaximo) {
+                // Cache cheio de tokens ainda válidos: o token foi verificado, só não fica guardado
+                return;
+            }
+        }
+        tokens.put(chave, claims);
+    }
+
+    // Varre o mapa no máximo uma vez por intervalo, para o cache cheio não custar uma varredura por requisição
+    private void removerExpirados() {
+        long agora = System.currentTimeMillis();
+        if (agora < proximaLimpeza) {
+            return;
+        }
+        proximaLimpeza = agora + INTERVALO_LIMPEZA_MILLIS;
+        tokens.values().removeIf(claims -> isExpirado(claims, agora));
+        log.debug("Cache de tokens JWT com {} entradas após a limpeza", tokens.size());
+    }
+
+    private static boolean isExpirado(Claims claims, long agora) {
+        Date expiracao = claims.getExpiration();
+        return expiracao != null && expiracao.getTime() <= agora;
+    }
+}
@@ -1,28 +1,43 @@
 package com.LucasH.park_api.jwt;
 
 import com.LucasH.park_api.entity.Usuario;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.stereotype.Service;
 
 //A classe User armazena as informações necessárias para
 // autenticar um usuário, como nome de usuário, senha e as autoridades (roles)
 public class JwtUserDetails extends User {
 
-    private Usuario usuario;
+    private final Long id;
+    private final String role;
 
     public JwtUserDetails(Usuario usuario) {
         super(usuario.getUsername(), usuario.getPassword(), AuthorityUtils.createAuthorityList(usuario.getRole().name()));
         // Super: Chama o construtor da classe User do Spring, que espera três parâmetros:
-        this.usuario = usuario;
+        this.id = usuario.getId();
+        this.role = usuario.getRole().name();
+    }
+
+    // Usuário montado a partir das claims de um token já verificado, sem consultar o banco.
+    // A senha não faz parte do token e não é usada depois da autenticação, por isso fica vazia.
+    public JwtUserDetails(Long id, String username, String role) {
+        super(username, "", AuthorityUtils.createAuthorityList(role));
+        this.id = id;
+        this.role = role;
+    }
+
+    public static JwtUserDetails fromClaims(Claims claims) {
+        Number id = claims.get(JwtUtils.CLAIM_ID, Number.class);
+        return new JwtUserDetails(id.longValue(), claims.getSubject(), claims.get(JwtUtils.CLAIM_ROLE, String.class));
     }
 
     public Long getId() {
-        return this.usuario.getId();
+        return this.id;
     }
 
     public String getRole() {
-        return this.usuario.getRole().name();
+        return this.role;
     }
 
 
@@ -32,9 +32,9 @@ public class JwtUserDetailsService implements UserDetailsService {
 
 
     public JwtToken getTokenAuthenticated(String username) {
-     Usuario.Role role  = usuarioService.buscarRolePorUsername(username);
-         return JwtUtils.createJwtToken(username, role.name() );
-         //Gera um token JWT para um usuário autenticado, baseado no seu nome de usuário e papel (role).
+     Usuario usuario = usuarioService.buscarPorUsername(username);
+         return JwtUtils.createJwtToken(usuario.getId(), username, usuario.getRole().name());
+         //Gera um token JWT para um usuário autenticado, baseado no seu id, nome de usuário e papel (role).
 
     }
 }
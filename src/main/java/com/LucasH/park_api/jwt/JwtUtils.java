@@ -2,12 +2,13 @@ package com.LucasH.park_api.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
@@ -23,15 +24,16 @@ public class JwtUtils {
     public static final long EXPIRE_DAYS = 0;
     public static final long EXPIRE_HOURS = 0;
     public static final long EXPIRE_MINUTES = 30;
+    public static final String CLAIM_ID = "id";
+    public static final String CLAIM_ROLE = "role";
 
-    private JwtUtils() {
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    //Chave secreta usada para assinar o token JWT com o algoritmo HMAC-SHA (neste caso, HMAC-SHA256).
+    // É criada uma única vez, assim como o parser, que é imutável e pode ser usado por várias threads.
+    private static final JwtParser PARSER = Jwts.parser().verifyWith(KEY).build();
 
-    }
+    private JwtUtils() {
 
-    private static javax.crypto.SecretKey generateKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
-        //Este método gera a chave secreta usada para assinar o token JWT usando o algoritmo HMAC-SHA (neste caso, HMAC-SHA256).
-        // Ele converte a chave secreta de uma string para um objeto javax.crypto.SecretKey.
     }
 
     private static Date toExpireDate(Date start) {
@@ -42,12 +44,11 @@ public class JwtUtils {
         // e adiciona o tempo definido nas constantes
     }
 
-    public static JwtToken createJwtToken(String username, String role) {
+    public static JwtToken createJwtToken(Long id, String username, String role) {
         Date issuedAt = new Date();
         // Define a data de emissão
         Date limit = toExpireDate(issuedAt);
         // Calcula a data de expiração
-        Key key = generateKey();
 
         String token = Jwts.builder()
                 .header().add("typ","JWT")// Adiciona o tipo do token no cabeçalho (JWT)
@@ -55,18 +56,17 @@ public class JwtUtils {
                 .subject(username) // Define o nome de usuário (subject) no payload
                 .issuedAt(issuedAt) // Define a data de emissão
                 .expiration(limit) // Define a data de expiração
-                .signWith(generateKey()) // Assina o token usando a chave gerada
-                .claim("role", role) // Adiciona uma claim personalizada, no caso, o papel (role) do usuário
+                .signWith(KEY) // Assina o token usando a chave secreta
+                .claim(CLAIM_ID, id) // Adiciona o id do usuário, usado para montar o usuário autenticado sem consultar o banco
+                .claim(CLAIM_ROLE, role) // Adiciona uma claim personalizada, no caso, o papel (role) do usuário
                 .compact();
 
         return new JwtToken(token);
     }
 
-    private static Claims getClaimsFromToken(String token) {
+    public static Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(generateKey()) //  usa a chave secreta para verificar a autenticidade do token
-                    .build()
+            return PARSER //  usa a chave secreta para verificar a autenticidade do token
                     .parseSignedClaims(refactorToken(token)).getPayload(); //  o método retorna todas as claims do token, que incluem o payload inteiro
         } catch (JwtException ex){
             log.error("Token invalido " + ex.getMessage());
@@ -74,7 +74,7 @@ public class JwtUtils {
         return null;
     }
 
-    private static String refactorToken(String token) {
+    static String refactorToken(String token) {
         if (token.contains(JWT_BEARER)){
             return token.substring(JWT_BEARER.length());
             // Remove o prefixo "Bearer " do token, caso ele esteja presente. Esse método é útil porque,
@@ -92,10 +92,7 @@ public class JwtUtils {
 
     public static boolean isTokenValid(String token) {
         try {
-             Jwts.parser()
-                    .verifyWith(generateKey())
-                     .build()
-                    .parseSignedClaims(refactorToken(token));
+             PARSER.parseSignedClaims(refactorToken(token));
              return true;
              //Verifica se o token JWT é válido. Ele tenta fazer o parsing do token e
             // , se for bem-sucedido (ou seja, o token não está expirado e foi assinado corretamente),
@@ -0,0 +1,42 @@
+package com.LucasH.park_api.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// Mede o tempo do BCrypt: matches no login (/auth) e encode no cadastro e na troca de senha.
+// O BCrypt é lento de propósito, então é um dos primeiros lugares para olhar quando o login demora.
+public class PasswordEncoderMedido implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encode;
+    private final Timer matches;
+
+    public PasswordEncoderMedido(PasswordEncoder delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.encode = timer(registry, "encode");
+        this.matches = timer(registry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encode.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matches.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    private static Timer timer(MeterRegistry registry, String operacao) {
+        return Timer.builder("park.senha.bcrypt")
+                .description("Tempo do BCrypt para gerar ou conferir uma senha")
+                .tag("operacao", operacao)
+                .register(registry);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,54 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.ClienteContador;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ClienteContadorRepository extends JpaRepository<ClienteContador, Long> {
+
+    // O update trava a linha do contador até o fim da transação, então check-outs simultâneos
+    // do mesmo cliente são serializados e cada um enxerga o total do anterior.
+    @Modifying
+    @Query("update ClienteContador c set c.estacionamentosCompletos = c.estacionamentosCompletos + 1 where c.id = :clienteId")
+    int incrementar(Long clienteId);
+
+    @Query("select c.estacionamentosCompletos from ClienteContador c where c.id = :clienteId")
+    Optional<Long> findEstacionamentosCompletosById(Long clienteId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ClienteContador c where c.id in :ids")
+    List<ClienteContador> findAllByIdParaAtualizacao(Collection<Long> ids);
+
+    // Cliente sem contador (inserido direto no banco, sem passar pelo cadastro): a linha do cliente é
+    // travada antes de criar o contador, então check-outs simultâneos do mesmo cliente não inserem duas vezes.
+    @Query(value = "select id from clientes where id in :ids order by id for update", nativeQuery = true)
+    List<Long> travarClientes(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "insert into clientes_contadores (id_cliente, estacionamentos_completos) " +
+            "select c.id, 0 from clientes c where c.id in :ids " +
+            "and not exists (select 1 from clientes_contadores cc where cc.id_cliente = c.id)",
+            nativeQuery = true)
+    int inserirAusentes(Collection<Long> ids);
+
+    // Usados pela carga inicial: recalculam os contadores a partir do histórico (inclui os registros arquivados)
+    @Modifying
+    @Query(value = "update clientes_contadores cc set estacionamentos_completos = " +
+            "(select count(*) from cliente_tem_vagas_historico cv where cv.id_cliente = cc.id_cliente and cv.data_saida is not null)",
+            nativeQuery = true)
+    int recalcularExistentes();
+
+    @Modifying
+    @Query(value = "insert into clientes_contadores (id_cliente, estacionamentos_completos) " +
+            "select c.id, (select count(*) from cliente_tem_vagas_historico cv where cv.id_cliente = c.id and cv.data_saida is not null) " +
+            "from clientes c where not exists (select 1 from clientes_contadores cc where cc.id_cliente = c.id)",
+            nativeQuery = true)
+    int inserirFaltantes();
+}
@@ -4,19 +4,22 @@ import com.LucasH.park_api.entity.Cliente;
 import com.LucasH.park_api.repository.projection.ClienteProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+import java.util.Collection;
+import java.util.List;
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ClienteRepositoryCustom {
 
     @Query("SELECT c FROM Cliente c")
     Page<ClienteProjection> findAllPageable(Pageable pageable);
 
+    @Query("SELECT c FROM Cliente c")
+    Slice<ClienteProjection> findAllSlice(Pageable pageable);
+
     Cliente findByUsuarioId(Long id);
 
-    @Transactional(readOnly = true)
-    Optional<Cliente> findByCpf(String cpf);
+    List<Cliente> findAllByCpfIn(Collection<String> cpfs);
 }
@@ -0,0 +1,11 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.Cliente;
+
+import java.util.Optional;
+
+public interface ClienteRepositoryCustom {
+
+    // Busca pelo id natural (CPF), passando pelo cache de segundo nível antes do banco
+    Optional<Cliente> buscarPorCpf(String cpf);
+}
@@ -0,0 +1,25 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.Cliente;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Uma consulta derivada (findByCpf) sempre vai ao banco; o load por id natural consulta antes o
+// cache cpf -> id (região clientes-cpf) e depois o cache da entidade (região clientes).
+public class ClienteRepositoryCustomImpl implements ClienteRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public ClienteRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Cliente.class).loadOptional(cpf);
+    }
+}
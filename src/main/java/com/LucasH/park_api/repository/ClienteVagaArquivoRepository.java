@@ -0,0 +1,52 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.ClienteVagaArquivo;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.APOS_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.COLUNAS_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ENTRE_DATAS;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ORDEM_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ORDEM_CURSOR_CLIENTE;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.TAMANHO_LOTE_EXPORTACAO;
+
+// Mesmas consultas de cursor e exportação de ClienteVagaRepository, sobre os estacionamentos
+// arquivados (índices idx_cliente_tem_vagas_arquivo_cliente_entrada e idx_cliente_tem_vagas_arquivo_entrada).
+public interface ClienteVagaArquivoRepository extends JpaRepository<ClienteVagaArquivo, Long> {
+
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c where c.cliente.cpf = :cpf" + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteCpf(String cpf, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c where c.cliente.cpf = :cpf" + APOS_CURSOR + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteCpf(String cpf, LocalDateTime dataEntrada, Long id, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c where c.cliente.usuario.id = :usuarioId" + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteUsuarioId(Long usuarioId, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c where c.cliente.usuario.id = :usuarioId" + APOS_CURSOR + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteUsuarioId(Long usuarioId, LocalDateTime dataEntrada, Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c " + ENTRE_DATAS + ORDEM_CURSOR)
+    Stream<ClienteVagaCursorProjection> streamByDataEntrada(LocalDateTime inicio, LocalDateTime fim);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(COLUNAS_CURSOR + "from ClienteVagaArquivo c " + ENTRE_DATAS + " and c.cliente.cpf = :cpf" + ORDEM_CURSOR_CLIENTE)
+    Stream<ClienteVagaCursorProjection> streamByDataEntradaAndClienteCpf(LocalDateTime inicio, LocalDateTime fim, String cpf);
+}
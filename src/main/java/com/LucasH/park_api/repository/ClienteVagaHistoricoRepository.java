@@ -0,0 +1,40 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.ClienteVagaHistorico;
+import com.LucasH.park_api.repository.projection.ClienteVagaProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// Consultas de histórico sobre a view que une cliente_tem_vagas e cliente_tem_vagas_arquivo,
+// assim os registros arquivados continuam aparecendo nas listagens do cliente.
+public interface ClienteVagaHistoricoRepository extends JpaRepository<ClienteVagaHistorico, Long> {
+
+    Page<ClienteVagaProjection> findAllByClienteCpf(String cpf, Pageable pageable);
+
+    Page<ClienteVagaProjection> findAllByClienteUsuarioId(Long id, Pageable pageable);
+
+    // Versões com Slice: buscam size + 1 linhas e não executam o COUNT da Page
+    Slice<ClienteVagaProjection> findSliceByClienteCpf(String cpf, Pageable pageable);
+
+    Slice<ClienteVagaProjection> findSliceByClienteUsuarioId(Long id, Pageable pageable);
+
+    // Paginação por chave e exportação: não passam pela view. O union all impede o uso dos índices
+    // (id_cliente, data_entrada, id) e (data_entrada, id) no ORDER BY com limite, então a consulta roda
+    // em cliente_tem_vagas e em cliente_tem_vagas_arquivo separadamente (ClienteVagaRepository e
+    // ClienteVagaArquivoRepository) e o serviço intercala os dois resultados na ordem (dataEntrada, id).
+    String COLUNAS_CURSOR = "select c.id as id, c.placa as placa, c.marca as marca, c.modelo as modelo, c.cor as cor, " +
+            "c.cliente.cpf as clienteCpf, c.recibo as recibo, c.dataEntrada as dataEntrada, c.dataSaida as dataSaida, " +
+            "c.vaga.codigo as vagaCodigo, c.valor as valor, c.desconto as desconto ";
+    String APOS_CURSOR = " and (c.dataEntrada > :dataEntrada or (c.dataEntrada = :dataEntrada and c.id > :id))";
+    String ORDEM_CURSOR = " order by c.dataEntrada, c.id";
+    // Mesma ordem quando o cliente é fixo: com c.cliente.id à frente o ORDER BY coincide com o índice
+    // (id_cliente, data_entrada, id) e o H2 escolhe esse índice em vez do índice da chave estrangeira.
+    String ORDEM_CURSOR_CLIENTE = " order by c.cliente.id, c.dataEntrada, c.id";
+
+    // Exportação: cursor de leitura do banco que entrega as linhas sob demanda, de 500 em 500,
+    // sem montar a lista inteira. Precisa ser consumido dentro de uma transação e fechado no final.
+    String ENTRE_DATAS = "where c.dataEntrada >= :inicio and c.dataEntrada < :fim";
+    String TAMANHO_LOTE_EXPORTACAO = "500";
+}
@@ -1,19 +1,91 @@
 package com.LucasH.park_api.repository;
 
 import com.LucasH.park_api.entity.ClienteVaga;
-import com.LucasH.park_api.repository.projection.ClienteVagaProjection;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.APOS_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.COLUNAS_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ENTRE_DATAS;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ORDEM_CURSOR;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.ORDEM_CURSOR_CLIENTE;
+import static com.LucasH.park_api.repository.ClienteVagaHistoricoRepository.TAMANHO_LOTE_EXPORTACAO;
+
+// Tabela principal, usada no check-in/check-out. As listagens paginadas do cliente ficam em
+// ClienteVagaHistoricoRepository, que também enxerga os registros arquivados; o cursor e a
+// exportação consultam esta tabela e ClienteVagaArquivoRepository separadamente.
 public interface ClienteVagaRepository extends JpaRepository<ClienteVaga, Long> {
     Optional<ClienteVaga> findByReciboAndDataSaidaIsNull(String recibo);
 
+    // Estacionamentos em aberto por placa (índice parcial único uk_cliente_tem_vagas_placa_aberta no Postgres)
+    Optional<ClienteVaga> findFirstByPlacaAndDataSaidaIsNull(String placa);
+
+    boolean existsByPlacaAndDataSaidaIsNull(String placa);
+
+    // Carga do registro de sessões ativas na subida da aplicação
+    @Query("select c from ClienteVaga c join fetch c.cliente join fetch c.vaga where c.dataSaida is null")
+    List<ClienteVaga> findAllByDataSaidaIsNull();
+
+    @Query("select c from ClienteVaga c join fetch c.cliente join fetch c.vaga " +
+            "where c.recibo in :recibos and c.dataSaida is null")
+    List<ClienteVaga> findAllByReciboInAndDataSaidaIsNull(Collection<String> recibos);
+
+    // Arquivamento: cada lote copia as linhas para cliente_tem_vagas_arquivo e as remove da tabela principal
+    @Query("select c.id from ClienteVaga c where c.dataSaida < :limite order by c.dataSaida")
+    List<Long> findIdsEncerradosAntesDe(LocalDateTime limite, Limit limit);
+
+    @Modifying
+    @Query(value = "insert into cliente_tem_vagas_arquivo (id, numero_recibo, placa, marca, modelo, cor, data_entrada, " +
+            "data_saida, valor, desconto, id_cliente, id_vaga, data_criacao, data_modificacao, criando_por, modificado_por) " +
+            "select id, numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto, id_cliente, " +
+            "id_vaga, data_criacao, data_modificacao, criando_por, modificado_por from cliente_tem_vagas where id in :ids",
+            nativeQuery = true)
+    int copiarParaArquivo(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from cliente_tem_vagas where id in :ids", nativeQuery = true)
+    int removerArquivados(Collection<Long> ids);
+
+    // Concluídos ainda na tabela principal (índice idx_cliente_tem_vagas_cliente_concluidos)
     long countByClienteCpfAndDataSaidaIsNotNull(String cpf);
 
-    Page<ClienteVagaProjection> findAllByClienteCpf(String cpf, Pageable pageable);
+    // Paginação por chave (índice idx_cliente_tem_vagas_cliente_entrada)
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c where c.cliente.cpf = :cpf" + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteCpf(String cpf, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c where c.cliente.cpf = :cpf" + APOS_CURSOR + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteCpf(String cpf, LocalDateTime dataEntrada, Long id, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c where c.cliente.usuario.id = :usuarioId" + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteUsuarioId(Long usuarioId, Limit limit);
+
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c where c.cliente.usuario.id = :usuarioId" + APOS_CURSOR + ORDEM_CURSOR_CLIENTE)
+    List<ClienteVagaCursorProjection> findCursorByClienteUsuarioId(Long usuarioId, LocalDateTime dataEntrada, Long id, Limit limit);
+
+    // Exportação (índice idx_cliente_tem_vagas_entrada)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c " + ENTRE_DATAS + ORDEM_CURSOR)
+    Stream<ClienteVagaCursorProjection> streamByDataEntrada(LocalDateTime inicio, LocalDateTime fim);
 
-    Page<ClienteVagaProjection> findAllByClienteUsuarioId(Long id, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(COLUNAS_CURSOR + "from ClienteVaga c " + ENTRE_DATAS + " and c.cliente.cpf = :cpf" + ORDEM_CURSOR_CLIENTE)
+    Stream<ClienteVagaCursorProjection> streamByDataEntradaAndClienteCpf(LocalDateTime inicio, LocalDateTime fim, String cpf);
 }
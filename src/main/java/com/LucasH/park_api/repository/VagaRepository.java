@@ -1,12 +1,47 @@
 package com.LucasH.park_api.repository;
 
 import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.projection.TotalVagasPorStatusProjection;
+import com.LucasH.park_api.repository.projection.VagaStatusProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface VagaRepository extends JpaRepository<Vaga, Long> {
-    Optional<Vaga> findByCodigo(String codigo);
+public interface VagaRepository extends JpaRepository<Vaga, Long>, VagaRepositoryCustom {
+
+    @Query("select v.codigo from Vaga v where v.codigo in :codigos")
+    List<String> findCodigosExistentes(Collection<String> codigos);
 
     Optional<Vaga> findFirstByStatus(com.LucasH.park_api.entity.Vaga.StatusVaga statusVaga);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from Vaga v where v.id in :ids")
+    List<Vaga> findAllByIdParaAtualizacao(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from Vaga v where v.status = :status and v.id not in :ignoradas order by v.id")
+    List<Vaga> findLivresParaAtualizacao(Vaga.StatusVaga status, Collection<Long> ignoradas, Limit limit);
+
+    // FOR UPDATE SKIP LOCKED: vagas já bloqueadas por outro check-in em andamento são puladas,
+    // então cada transação concorrente recebe uma vaga diferente sem esperar pela outra.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("select v from Vaga v where v.status = :status order by v.id")
+    List<Vaga> findByStatusIgnorandoBloqueadas(Vaga.StatusVaga status, Limit limit);
+
+    @Query("select v.id as id, v.status as status from Vaga v")
+    List<VagaStatusProjection> findAllStatus();
+
+    @Query("select v.status as status, count(v) as total from Vaga v group by v.status")
+    List<TotalVagasPorStatusProjection> countPorStatus();
 }
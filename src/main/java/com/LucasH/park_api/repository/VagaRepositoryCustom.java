@@ -0,0 +1,11 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.Vaga;
+
+import java.util.Optional;
+
+public interface VagaRepositoryCustom {
+
+    // Busca pelo id natural (código), passando pelo cache de segundo nível antes do banco
+    Optional<Vaga> buscarPorCodigo(String codigo);
+}
@@ -0,0 +1,24 @@
+package com.LucasH.park_api.repository;
+
+import com.LucasH.park_api.entity.Vaga;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Load por id natural: cache código -> id (região vagas-codigo), depois cache da entidade (região vagas)
+public class VagaRepositoryCustomImpl implements VagaRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public VagaRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Vaga> buscarPorCodigo(String codigo) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Vaga.class).loadOptional(codigo);
+    }
+}
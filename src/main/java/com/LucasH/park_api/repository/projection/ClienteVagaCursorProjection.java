@@ -0,0 +1,10 @@
+package com.LucasH.park_api.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Registro de estacionamento com o id, usado para montar o cursor da próxima página
+public interface ClienteVagaCursorProjection extends ClienteVagaProjection {
+
+    @JsonIgnore
+    Long getId();
+}
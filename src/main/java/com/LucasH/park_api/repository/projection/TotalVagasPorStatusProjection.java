@@ -0,0 +1,10 @@
+package com.LucasH.park_api.repository.projection;
+
+import com.LucasH.park_api.entity.Vaga;
+
+public interface TotalVagasPorStatusProjection {
+
+    Vaga.StatusVaga getStatus();
+
+    long getTotal();
+}
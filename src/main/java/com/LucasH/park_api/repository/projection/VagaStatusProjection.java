@@ -0,0 +1,8 @@
+package com.LucasH.park_api.repository.projection;
+
+import com.LucasH.park_api.entity.Vaga;
+
+public interface VagaStatusProjection {
+    Long getId();
+    Vaga.StatusVaga getStatus();
+}
@@ -0,0 +1,70 @@
+package com.LucasH.park_api.service;
+
+import com.LucasH.park_api.entity.Cliente;
+import com.LucasH.park_api.entity.ClienteContador;
+import com.LucasH.park_api.repository.ClienteContadorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class ClienteContadorService {
+
+    private final ClienteContadorRepository contadorRepository;
+
+    @Transactional
+    public void criar(Cliente cliente) {
+        contadorRepository.save(new ClienteContador(cliente, 0));
+    }
+
+    // Soma um estacionamento concluído e retorna quantos o cliente tinha antes deste,
+    // sem contar o histórico de cliente_tem_vagas. Os contadores dos clientes existentes foram
+    // criados pela migração V6; o cadastro cria o dos clientes novos.
+    @Transactional
+    public long registrarEstacionamentoCompleto(Cliente cliente) {
+        if (contadorRepository.incrementar(cliente.getId()) == 0) {
+            criarAusentes(List.of(cliente.getId()));
+            contadorRepository.incrementar(cliente.getId());
+        }
+        return contadorRepository.findEstacionamentosCompletosById(cliente.getId()).orElseThrow() - 1;
+    }
+
+    // Versão para lote: devolve os contadores travados para atualização, indexados pelo id do cliente.
+    // O chamador incrementa cada um em memória e as alterações são enviadas em batch no commit.
+    @Transactional
+    public Map<Long, ClienteContador> buscarParaAtualizacao(Collection<Cliente> clientes) {
+        if (clientes.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<Long, ClienteContador> contadores = contadorRepository
+                .findAllByIdParaAtualizacao(clientes.stream().map(Cliente::getId).toList()).stream()
+                .collect(Collectors.toMap(ClienteContador::getId, Function.identity(), (a, b) -> a, HashMap::new));
+
+        List<Long> semContador = clientes.stream()
+                .map(Cliente::getId)
+                .filter(id -> !contadores.containsKey(id))
+                .distinct()
+                .toList();
+        if (!semContador.isEmpty()) {
+            criarAusentes(semContador);
+            contadorRepository.findAllByIdParaAtualizacao(semContador)
+                    .forEach(contador -> contadores.put(contador.getId(), contador));
+        }
+        return contadores;
+    }
+
+    // Contador zerado para clientes inseridos direto no banco, sem passar pelo cadastro.
+    // Trava as linhas dos clientes antes: só um dos check-outs simultâneos insere o contador.
+    private void criarAusentes(List<Long> clienteIds) {
+        contadorRepository.travarClientes(clienteIds);
+        contadorRepository.inserirAusentes(clienteIds);
+    }
+}
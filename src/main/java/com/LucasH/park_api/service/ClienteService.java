@@ -9,21 +9,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ClienteService {
     private final ClienteRepository clienteRepository;
+    private final ClienteContadorService contadorService;
 
     @Transactional
     public Cliente salvar(Cliente cliente) {
         try {
-            return  clienteRepository.save(cliente);
+            // Com o id vindo de sequência o INSERT só iria ao banco no commit, fora deste try:
+            // o flush antecipa a violação do CPF único para ser traduzida aqui
+            Cliente salvo = clienteRepository.saveAndFlush(cliente);
+            contadorService.criar(salvo);
+            return salvo;
 
         } catch (DataIntegrityViolationException e) {
             throw  new CpfUniqueViolationExeception("CPF " + cliente.getCpf() + " não pode ser cadastrado, já existe no sistema" );
@@ -40,14 +50,25 @@ public class ClienteService {
     public Page<ClienteProjection> buscarTodos(Pageable pageable) {
         return clienteRepository.findAllPageable(pageable);
     }
+
+    @Transactional(readOnly = true)
+    public Slice<ClienteProjection> buscarTodosSemContagem(Pageable pageable) {
+        return clienteRepository.findAllSlice(pageable);
+    }
     @Transactional(readOnly = true)
     public Cliente buscarPorUsuarioId(Long id) {
         return clienteRepository.findByUsuarioId(id);
     }
 
     public Cliente buscarPorCpf(String cpf) {
-        return clienteRepository.findByCpf(cpf).orElseThrow(
+        return clienteRepository.buscarPorCpf(cpf).orElseThrow(
                 () -> new EntityNotFoundException("Cliente com o cpf " + cpf + " não encontrado")
         );
     }
+
+    @Transactional(readOnly = true)
+    public Map<String, Cliente> buscarPorCpfs(Collection<String> cpfs) {
+        return clienteRepository.findAllByCpfIn(cpfs).stream()
+                .collect(Collectors.toMap(Cliente::getCpf, Function.identity()));
+    }
 }
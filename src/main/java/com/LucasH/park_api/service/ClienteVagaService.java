@@ -2,22 +2,57 @@ package com.LucasH.park_api.service;
 
 import com.LucasH.park_api.entity.ClienteVaga;
 import com.LucasH.park_api.exeception.EntityNotFoundException;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.repository.ClienteVagaArquivoRepository;
+import com.LucasH.park_api.repository.ClienteVagaHistoricoRepository;
 import com.LucasH.park_api.repository.ClienteVagaRepository;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
 import com.LucasH.park_api.repository.projection.ClienteVagaProjection;
+import com.LucasH.park_api.service.sessao.SessaoAtiva;
+import com.LucasH.park_api.service.sessao.SessoesAtivas;
+import com.LucasH.park_api.util.CursorUtils;
+import com.LucasH.park_api.util.IntercalacaoUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 
 public class ClienteVagaService{
 
+    private static final String INDICE_PLACA_ABERTA = "uk_cliente_tem_vagas_placa_aberta";
+    private static final Comparator<ClienteVagaCursorProjection> ORDEM_CURSOR = Comparator
+            .comparing(ClienteVagaCursorProjection::getDataEntrada)
+            .thenComparing(ClienteVagaCursorProjection::getId);
+
     private final ClienteVagaRepository vagaRepository;
+    // Listagens paginadas leem o histórico completo (tabela principal + arquivo) pela view
+    private final ClienteVagaHistoricoRepository historicoRepository;
+    // Cursor e exportação leem o arquivo direto na tabela e intercalam com a tabela principal
+    private final ClienteVagaArquivoRepository arquivoRepository;
+    // Consultas de estacionamentos em aberto (por recibo e por placa)
+    private final SessoesAtivas sessoesAtivas;
 
-    public ClienteVagaService(ClienteVagaRepository vagaRepository) {
+    public ClienteVagaService(ClienteVagaRepository vagaRepository, ClienteVagaHistoricoRepository historicoRepository,
+                              ClienteVagaArquivoRepository arquivoRepository, SessoesAtivas sessoesAtivas) {
         this.vagaRepository = vagaRepository;
+        this.historicoRepository = historicoRepository;
+        this.arquivoRepository = arquivoRepository;
+        this.sessoesAtivas = sessoesAtivas;
     }
 
 
@@ -26,6 +61,38 @@ public class ClienteVagaService{
         return vagaRepository.save(vaga);
     }
 
+    // Check-in: o flush antecipa o INSERT para a violação do índice único de placa em aberto
+    // (check-in simultâneo do mesmo veículo) virar 409 aqui, e não um erro no commit
+    @Transactional
+    public ClienteVaga salvarEntrada(ClienteVaga clienteVaga) {
+        try {
+            return vagaRepository.saveAndFlush(clienteVaga);
+        } catch (DataIntegrityViolationException ex) {
+            throw placaJaEstacionada(ex, "Veiculo de placa " + clienteVaga.getPlaca() + " já está estacionado");
+        }
+    }
+
+    @Transactional
+    // Os ids vêm da sequência em blocos, então o Hibernate agrupa os inserts em batch (hibernate.jdbc.batch_size)
+    public void salvarEmLote(List<ClienteVaga> clienteVagas) {
+        if (clienteVagas.isEmpty()) {
+            return;
+        }
+        try {
+            vagaRepository.saveAllAndFlush(clienteVagas);
+        } catch (DataIntegrityViolationException ex) {
+            throw placaJaEstacionada(ex, "Veiculo do lote já estacionado por outra requisição");
+        }
+    }
+
+    private static RuntimeException placaJaEstacionada(DataIntegrityViolationException ex, String mensagem) {
+        String causa = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase();
+        if (causa.contains(INDICE_PLACA_ABERTA)) {
+            return new VeiculoJaEstacionadoException(mensagem);
+        }
+        return ex;
+    }
+
     public ClienteVaga buscarPorRecibo(String recibo) {
         return vagaRepository.findByReciboAndDataSaidaIsNull(recibo).orElseThrow(
                 () -> new EntityNotFoundException(
@@ -34,19 +101,99 @@ public class ClienteVagaService{
         );
     }
 
+    public SessaoAtiva buscarSessaoPorRecibo(String recibo) {
+        return sessoesAtivas.buscarPorRecibo(recibo).orElseThrow(
+                () -> new EntityNotFoundException(
+                        "Recibo " + recibo + " Não encontrado no sistema ou check-out já realizado"
+                )
+        );
+    }
+
+    public SessaoAtiva buscarSessaoPorPlaca(String placa) {
+        return sessoesAtivas.buscarPorPlaca(placa).orElseThrow(
+                () -> new EntityNotFoundException(
+                        "Nenhum veiculo de placa " + SessoesAtivas.normalizarPlaca(placa) + " estacionado no momento"
+                )
+        );
+    }
+
     @Transactional(readOnly = true)
-    public long getTotalDevezesEstacionamentoCompleto(String cpf) {
-        return vagaRepository.countByClienteCpfAndDataSaidaIsNotNull(cpf);
+    public Map<String, ClienteVaga> buscarPorRecibos(Collection<String> recibos) {
+        return vagaRepository.findAllByReciboInAndDataSaidaIsNull(recibos).stream()
+                .collect(Collectors.toMap(ClienteVaga::getRecibo, Function.identity()));
     }
 
     @Transactional(readOnly = true)
     public Page<ClienteVagaProjection> buscarTodosProClienteCpf(String cpf, Pageable pageable) {
-        return vagaRepository.findAllByClienteCpf(cpf, pageable);
+        return historicoRepository.findAllByClienteCpf(cpf, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ClienteVagaProjection> buscarTodosProClienteCpfSemContagem(String cpf, Pageable pageable) {
+        return historicoRepository.findSliceByClienteCpf(cpf, pageable);
     }
 
 
     @Transactional(readOnly = true)
     public Page<ClienteVagaProjection> buscarTodosPorUsuarioId(Long id, Pageable pageable) {
-        return vagaRepository.findAllByClienteUsuarioId(id, pageable);
+        return historicoRepository.findAllByClienteUsuarioId(id, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ClienteVagaProjection> buscarTodosPorUsuarioIdSemContagem(Long id, Pageable pageable) {
+        return historicoRepository.findSliceByClienteUsuarioId(id, pageable);
+    }
+
+    // Retorna até tamanho + 1 linhas: a linha extra só indica que existe uma próxima página.
+    // Cada tabela devolve no máximo o limite pelo seu índice e as duas listas são intercaladas.
+    @Transactional(readOnly = true)
+    public List<ClienteVagaCursorProjection> buscarPorCursorClienteCpf(String cpf, String cursor, int tamanho) {
+        CursorUtils.Posicao posicao = CursorUtils.decodificar(cursor);
+        Limit limite = Limit.of(tamanho + 1);
+        List<ClienteVagaCursorProjection> principal = posicao == null
+                ? vagaRepository.findCursorByClienteCpf(cpf, limite)
+                : vagaRepository.findCursorByClienteCpf(cpf, posicao.dataEntrada(), posicao.id(), limite);
+        List<ClienteVagaCursorProjection> arquivo = posicao == null
+                ? arquivoRepository.findCursorByClienteCpf(cpf, limite)
+                : arquivoRepository.findCursorByClienteCpf(cpf, posicao.dataEntrada(), posicao.id(), limite);
+        return IntercalacaoUtils.intercalar(principal, arquivo, ORDEM_CURSOR, limite.max());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClienteVagaCursorProjection> buscarPorCursorUsuarioId(Long id, String cursor, int tamanho) {
+        CursorUtils.Posicao posicao = CursorUtils.decodificar(cursor);
+        Limit limite = Limit.of(tamanho + 1);
+        List<ClienteVagaCursorProjection> principal = posicao == null
+                ? vagaRepository.findCursorByClienteUsuarioId(id, limite)
+                : vagaRepository.findCursorByClienteUsuarioId(id, posicao.dataEntrada(), posicao.id(), limite);
+        List<ClienteVagaCursorProjection> arquivo = posicao == null
+                ? arquivoRepository.findCursorByClienteUsuarioId(id, limite)
+                : arquivoRepository.findCursorByClienteUsuarioId(id, posicao.dataEntrada(), posicao.id(), limite);
+        return IntercalacaoUtils.intercalar(principal, arquivo, ORDEM_CURSOR, limite.max());
+    }
+
+    // O Stream mantém os cursores do banco abertos: quem chama precisa estar em uma transação e fechar o Stream
+    @Transactional(readOnly = true)
+    public Stream<ClienteVagaCursorProjection> buscarParaExportacao(LocalDateTime inicio, LocalDateTime fim, String cpf) {
+        boolean todos = cpf == null || cpf.isBlank();
+        Stream<ClienteVagaCursorProjection> principal = todos
+                ? vagaRepository.streamByDataEntrada(inicio, fim)
+                : vagaRepository.streamByDataEntradaAndClienteCpf(inicio, fim, cpf);
+        Stream<ClienteVagaCursorProjection> arquivo = todos
+                ? arquivoRepository.streamByDataEntrada(inicio, fim)
+                : arquivoRepository.streamByDataEntradaAndClienteCpf(inicio, fim, cpf);
+        return IntercalacaoUtils.intercalar(principal, arquivo, ORDEM_CURSOR);
+    }
+
+    // Move para o arquivo até 'tamanho' estacionamentos encerrados antes do limite. Cada lote é uma
+    // transação curta: os locks das linhas copiadas e removidas duram apenas o lote.
+    @Transactional
+    public int arquivarLote(LocalDateTime limite, int tamanho) {
+        List<Long> ids = vagaRepository.findIdsEncerradosAntesDe(limite, Limit.of(tamanho));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        vagaRepository.copiarParaArquivo(ids);
+        return vagaRepository.removerArquivados(ids);
     }
 }
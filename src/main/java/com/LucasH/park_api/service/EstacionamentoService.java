@@ -1,15 +1,30 @@
 package com.LucasH.park_api.service;
 
 import com.LucasH.park_api.entity.Cliente;
+import com.LucasH.park_api.entity.ClienteContador;
 import com.LucasH.park_api.entity.ClienteVaga;
 import com.LucasH.park_api.entity.Vaga;
-import com.LucasH.park_api.util.EstacionamentoUtils;
+import com.LucasH.park_api.exeception.EntityNotFoundException;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import com.LucasH.park_api.service.recibo.GeradorRecibo;
+import com.LucasH.park_api.service.sessao.SessoesAtivas;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -18,45 +33,165 @@ public class EstacionamentoService {
     private final ClienteVagaService clienteVagaService;
     private final ClienteService clienteService;
     private final VagaService vagaService;
-
-    public EstacionamentoService(ClienteVagaService clienteVagaService, ClienteService clienteService, VagaService vagaService) {
+    private final GeradorRecibo geradorRecibo;
+    private final ClienteContadorService contadorService;
+    private final TarifaService tarifaService;
+    private final ContadorOcupacao contadorOcupacao;
+    private final SessoesAtivas sessoesAtivas;
+
+    public EstacionamentoService(ClienteVagaService clienteVagaService, ClienteService clienteService, VagaService vagaService,
+                                 GeradorRecibo geradorRecibo, ClienteContadorService contadorService, TarifaService tarifaService,
+                                 ContadorOcupacao contadorOcupacao, SessoesAtivas sessoesAtivas) {
         this.clienteVagaService = clienteVagaService;
         this.clienteService = clienteService;
         this.vagaService = vagaService;
+        this.geradorRecibo = geradorRecibo;
+        this.contadorService = contadorService;
+        this.tarifaService = tarifaService;
+        this.contadorOcupacao = contadorOcupacao;
+        this.sessoesAtivas = sessoesAtivas;
     }
 
+    @Timed(value = "park.estacionamento.check-in", description = "Tempo do check-in de um veículo")
     @Transactional
     public ClienteVaga checkIn(ClienteVaga clienteVaga) {
         Cliente cliente = clienteService.buscarPorCpf(clienteVaga.getCliente().getCpf());
         clienteVaga.setCliente(cliente);
 
+        // O veículo é conferido antes de alocar a vaga: uma placa já estacionada não reserva vaga
+        clienteVaga.setRecibo(geradorRecibo.gerar());
+        clienteVaga.setPlaca(SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca()));
+        sessoesAtivas.iniciar(clienteVaga);
+
         Vaga vaga = vagaService.buscarPorVagaLivre();
         vaga.setStatus(Vaga.StatusVaga.OCUPADA);
         clienteVaga.setVaga(vaga);
 
         clienteVaga.setDataEntrada(LocalDateTime.now());
-        clienteVaga.setRecibo(EstacionamentoUtils.gerarRecibo());
 
-       return clienteVagaService.salvar(clienteVaga);
+        contadorOcupacao.ocupar(vaga);
+        return clienteVagaService.salvarEntrada(clienteVaga);
+    }
+
+    // Check-in de vários veículos em uma única transação: os CPFs são resolvidos em uma consulta,
+    // as vagas alocadas de uma vez e os registros inseridos em batch. Um item sem cliente, com veículo
+    // já estacionado ou sem vaga disponível é reportado como falha sem impedir os demais.
+    @Transactional
+    public List<ResultadoLote> checkInLote(List<ClienteVaga> clienteVagas) {
+        Set<String> cpfs = clienteVagas.stream().map(cv -> cv.getCliente().getCpf()).collect(Collectors.toSet());
+        Map<String, Cliente> clientes = clienteService.buscarPorCpfs(cpfs);
+
+        ResultadoLote[] resultados = new ResultadoLote[clienteVagas.size()];
+        List<Integer> aceitos = new ArrayList<>(clienteVagas.size());
+        Set<String> placasDoLote = new HashSet<>();
+        for (int i = 0; i < clienteVagas.size(); i++) {
+            ClienteVaga clienteVaga = clienteVagas.get(i);
+            String cpf = clienteVaga.getCliente().getCpf();
+            Cliente cliente = clientes.get(cpf);
+            if (cliente == null) {
+                resultados[i] = ResultadoLote.falha(new EntityNotFoundException("Cliente com o cpf " + cpf + " não encontrado"));
+                continue;
+            }
+            clienteVaga.setCliente(cliente);
+            clienteVaga.setRecibo(geradorRecibo.gerar());
+            clienteVaga.setPlaca(SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca()));
+            try {
+                if (!placasDoLote.add(clienteVaga.getPlaca())) {
+                    throw new VeiculoJaEstacionadoException("Veiculo de placa " + clienteVaga.getPlaca() + " repetido no lote");
+                }
+                sessoesAtivas.iniciar(clienteVaga);
+            } catch (VeiculoJaEstacionadoException ex) {
+                resultados[i] = ResultadoLote.falha(ex);
+                continue;
+            }
+            aceitos.add(i);
+        }
+
+        // Vagas só para os itens aceitos, então nenhuma vaga fica reservada sem uso
+        Iterator<Vaga> vagas = vagaService.buscarVagasLivres(aceitos.size()).iterator();
+        List<ClienteVaga> inserir = new ArrayList<>(aceitos.size());
+        for (int i : aceitos) {
+            ClienteVaga clienteVaga = clienteVagas.get(i);
+            if (!vagas.hasNext()) {
+                sessoesAtivas.cancelar(clienteVaga);
+                resultados[i] = ResultadoLote.falha(new EntityNotFoundException("Nenhuma vaga livre foi encontrada"));
+                continue;
+            }
+            Vaga vaga = vagas.next();
+            vaga.setStatus(Vaga.StatusVaga.OCUPADA);
+            clienteVaga.setVaga(vaga);
+
+            clienteVaga.setDataEntrada(LocalDateTime.now());
+
+            inserir.add(clienteVaga);
+            resultados[i] = ResultadoLote.sucesso(clienteVaga);
+        }
+
+        clienteVagaService.salvarEmLote(inserir);
+        contadorOcupacao.ocupar(inserir.stream().map(ClienteVaga::getVaga).toList());
+        return Arrays.asList(resultados);
     }
 
+    @Timed(value = "park.estacionamento.check-out", description = "Tempo do check-out de um veículo")
     @Transactional
     public ClienteVaga checkOut(String recibo) {
         ClienteVaga clienteVaga = clienteVagaService.buscarPorRecibo(recibo);
 
         LocalDateTime dataSaida = LocalDateTime.now();
 
-        BigDecimal valor = EstacionamentoUtils.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
-        clienteVaga.setValor(valor);
+        long valor = tarifaService.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
+        clienteVaga.setValor(TarifaService.emReais(valor));
 
-        long totalDeVezes = clienteVagaService.getTotalDevezesEstacionamentoCompleto(clienteVaga.getCliente().getCpf());
+        long totalDeVezes = contadorService.registrarEstacionamentoCompleto(clienteVaga.getCliente());
 
-        BigDecimal desconto = EstacionamentoUtils.calcularDesconto(valor, totalDeVezes);
-        clienteVaga.setDesconto(desconto);
+        long desconto = TarifaService.calcularDesconto(valor, totalDeVezes);
+        clienteVaga.setDesconto(TarifaService.emReais(desconto));
 
         clienteVaga.setDataSaida(dataSaida);
-        clienteVaga.getVaga().setStatus(Vaga.StatusVaga.LIVRE);
+        vagaService.liberarVaga(clienteVaga.getVaga());
+        contadorOcupacao.liberar(clienteVaga.getVaga());
+        sessoesAtivas.encerrar(clienteVaga);
 
         return clienteVagaService.salvar(clienteVaga);
     }
+
+    // Check-out de vários recibos em uma única transação: os registros abertos e os contadores de
+    // fidelidade dos clientes são carregados em uma consulta cada e as alterações são enviadas em
+    // batch no commit.
+    @Transactional
+    public List<ResultadoLote> checkOutLote(List<String> recibos) {
+        Map<String, ClienteVaga> abertos = new HashMap<>(clienteVagaService.buscarPorRecibos(recibos));
+        Set<Cliente> clientes = abertos.values().stream().map(ClienteVaga::getCliente).collect(Collectors.toSet());
+        Map<Long, ClienteContador> contadores = contadorService.buscarParaAtualizacao(clientes);
+
+        LocalDateTime dataSaida = LocalDateTime.now();
+        List<ResultadoLote> resultados = new ArrayList<>(recibos.size());
+        List<Vaga> liberadas = new ArrayList<>(recibos.size());
+        for (String recibo : recibos) {
+            ClienteVaga clienteVaga = abertos.remove(recibo);
+            if (clienteVaga == null) {
+                resultados.add(ResultadoLote.falha(new EntityNotFoundException(
+                        "Recibo " + recibo + " Não encontrado no sistema ou check-out já realizado")));
+                continue;
+            }
+
+            long valor = tarifaService.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
+            clienteVaga.setValor(TarifaService.emReais(valor));
+
+            // Um mesmo cliente pode ter mais de um recibo no lote: cada check-out conta para o próximo
+            long totalDeVezes = contadores.get(clienteVaga.getCliente().getId()).incrementar();
+
+            long desconto = TarifaService.calcularDesconto(valor, totalDeVezes);
+            clienteVaga.setDesconto(TarifaService.emReais(desconto));
+
+            clienteVaga.setDataSaida(dataSaida);
+            vagaService.liberarVaga(clienteVaga.getVaga());
+            liberadas.add(clienteVaga.getVaga());
+            sessoesAtivas.encerrar(clienteVaga);
+
+            resultados.add(ResultadoLote.sucesso(clienteVaga));
+        }
+        contadorOcupacao.liberar(liberadas);
+        return resultados;
+    }
 }
@@ -0,0 +1,19 @@
+package com.LucasH.park_api.service;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+
+// Resultado de um item de uma operação em lote: o registro processado ou o erro que impediu o processamento.
+public record ResultadoLote(ClienteVaga clienteVaga, RuntimeException erro) {
+
+    public static ResultadoLote sucesso(ClienteVaga clienteVaga) {
+        return new ResultadoLote(clienteVaga, null);
+    }
+
+    public static ResultadoLote falha(RuntimeException erro) {
+        return new ResultadoLote(null, erro);
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+}
@@ -29,7 +29,7 @@ public class UsuarioService {
         try {
             usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
             // Criptografa a senha e é salva no banco de dados
-            return usuarioRepository.save(usuario);
+            return usuarioRepository.saveAndFlush(usuario);
         } catch (org.springframework.dao.DataIntegrityViolationException ex) {
             throw new UsernameUniqueViolationExeception(String.format("Username {%s} já cadastrado", usuario.getUsername()));
         }
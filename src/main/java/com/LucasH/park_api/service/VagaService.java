@@ -4,12 +4,19 @@ import com.LucasH.park_api.entity.Vaga;
 import com.LucasH.park_api.exeception.CodigoUniqueViolationExeception;
 import com.LucasH.park_api.exeception.EntityNotFoundException;
 import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.service.alocacao.AlocadorVagas;
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
 
 @Service
@@ -17,29 +24,74 @@ import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
 public class VagaService {
 
     private final VagaRepository vagaRepository;
+    private final AlocadorVagas alocadorVagas;
+    private final ContadorOcupacao contadorOcupacao;
 
-    public VagaService(VagaRepository vagaRepository) {
+    public VagaService(VagaRepository vagaRepository, AlocadorVagas alocadorVagas, ContadorOcupacao contadorOcupacao) {
         this.vagaRepository = vagaRepository;
+        this.alocadorVagas = alocadorVagas;
+        this.contadorOcupacao = contadorOcupacao;
     }
 
     public Vaga salvar(Vaga vaga) {
         try {
-            return vagaRepository.save(vaga);
+            Vaga salva = vagaRepository.saveAndFlush(vaga);
+            alocadorVagas.registrar(salva);
+            contadorOcupacao.registrar(salva);
+            return salva;
         }catch (DataIntegrityViolationException ex) {
             throw new CodigoUniqueViolationExeception("Vaga com código " + vaga.getCodigo() + " já cadastrada");
         }
     }
 
+    // Cadastro de muitas vagas de uma vez (abertura de um andar). Os ids vêm da sequência em blocos,
+    // então os inserts vão para o banco em batch (hibernate.jdbc.batch_size) e não um por vez.
+    @Transactional
+    public List<Vaga> salvarEmLote(List<Vaga> vagas) {
+        Set<String> codigos = new HashSet<>();
+        List<String> repetidos = vagas.stream().map(Vaga::getCodigo).filter(codigo -> !codigos.add(codigo)).distinct().toList();
+        if (!repetidos.isEmpty()) {
+            throw new CodigoUniqueViolationExeception("Códigos de vaga repetidos no lote: " + String.join(", ", repetidos));
+        }
+        List<String> existentes = vagaRepository.findCodigosExistentes(codigos);
+        if (!existentes.isEmpty()) {
+            throw new CodigoUniqueViolationExeception("Vagas com código " + String.join(", ", existentes) + " já cadastradas");
+        }
+        try {
+            List<Vaga> salvas = vagaRepository.saveAllAndFlush(vagas);
+            salvas.forEach(alocadorVagas::registrar);
+            contadorOcupacao.registrar(salvas);
+            return salvas;
+        } catch (DataIntegrityViolationException ex) {
+            throw new CodigoUniqueViolationExeception("Vagas do lote já cadastradas por outra requisição");
+        }
+    }
+
     public Vaga buscarPorCodigo(String codigo) {
-        return vagaRepository.findByCodigo(codigo).orElseThrow(
+        return vagaRepository.buscarPorCodigo(codigo).orElseThrow(
                 () -> new EntityNotFoundException("Vaga " + codigo +" não foi encontrada")
         );
     }
 
 
+    @Timed(value = "park.vagas.alocacao", description = "Tempo para alocar uma vaga livre no check-in")
+    @Transactional
     public Vaga buscarPorVagaLivre() {
-     return vagaRepository.findFirstByStatus(LIVRE).orElseThrow(
+     return alocadorVagas.alocar().orElseThrow(
              () -> new EntityNotFoundException("Nenhuma vaga livre foi encontrada")
      );
     }
+
+    @Transactional
+    public List<Vaga> buscarVagasLivres(int quantidade) {
+        if (quantidade <= 0) {
+            return List.of();
+        }
+        return alocadorVagas.alocar(quantidade);
+    }
+
+    public void liberarVaga(Vaga vaga) {
+        vaga.setStatus(LIVRE);
+        alocadorVagas.liberar(vaga);
+    }
 }
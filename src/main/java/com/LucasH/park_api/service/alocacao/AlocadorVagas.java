@@ -0,0 +1,25 @@
+package com.LucasH.park_api.service.alocacao;
+
+import com.LucasH.park_api.entity.Vaga;
+
+import java.util.List;
+import java.util.Optional;
+
+// Estratégia de escolha da vaga no check-in. A implementação ativa é definida pela
+// propriedade park.vagas.alocacao (memoria | skip-locked).
+public interface AlocadorVagas {
+
+    // Chamado dentro da transação do check-in; as vagas retornadas ficam reservadas até o fim dela.
+    // Retorna menos vagas que a quantidade pedida quando não há vagas livres suficientes.
+    List<Vaga> alocar(int quantidade);
+
+    default Optional<Vaga> alocar() {
+        return alocar(1).stream().findFirst();
+    }
+
+    // Chamado dentro da transação do check-out, depois da vaga ser marcada como LIVRE.
+    void liberar(Vaga vaga);
+
+    // Chamado ao cadastrar uma vaga nova.
+    void registrar(Vaga vaga);
+}
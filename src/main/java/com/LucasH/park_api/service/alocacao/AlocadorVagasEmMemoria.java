@@ -0,0 +1,98 @@
+package com.LucasH.park_api.service.alocacao;
+
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.repository.projection.VagaStatusProjection;
+import com.LucasH.park_api.util.TransacaoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
+
+// Alocador de vagas em memória. Mantém um mapa de bits das vagas livres carregado na subida
+// da aplicação e reserva uma vaga com compareAndSet, sem varrer a tabela de vagas a cada check-in.
+// O banco continua sendo a fonte da verdade: a vaga reservada é lida com lock de escrita e só é
+// entregue se ainda estiver LIVRE, então um bit desatualizado nunca gera alocação dupla.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "park.vagas.alocacao", havingValue = "memoria", matchIfMissing = true)
+public class AlocadorVagasEmMemoria implements AlocadorVagas {
+
+    private final VagaRepository vagaRepository;
+    private final BitmapVagasLivres vagasLivres = new BitmapVagasLivres();
+
+    public AlocadorVagasEmMemoria(VagaRepository vagaRepository) {
+        this.vagaRepository = vagaRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        for (VagaStatusProjection vaga : vagaRepository.findAllStatus()) {
+            vagasLivres.registrar(vaga.getId(), vaga.getStatus() == LIVRE);
+        }
+        log.info("Alocador de vagas carregado com {} vagas", vagasLivres.getTotalVagas());
+    }
+
+    // Se a transação do check-in não for confirmada as reservas são desfeitas e as vagas voltam para o mapa de livres.
+    @Override
+    public List<Vaga> alocar(int quantidade) {
+        List<Vaga> vagas = new ArrayList<>(quantidade);
+        List<Long> reservadas;
+        while (vagas.size() < quantidade && !(reservadas = reservar(quantidade - vagas.size())).isEmpty()) {
+            for (Vaga vaga : vagaRepository.findAllByIdParaAtualizacao(reservadas)) {
+                if (vaga.getStatus() == LIVRE) {
+                    vagas.add(vaga);
+                }
+                // Bit desatualizado: a vaga foi ocupada ou removida direto no banco.
+                // O bit já ficou desligado pela reserva, basta ignorar a vaga.
+            }
+        }
+
+        // Mapa sem vagas livres suficientes: confirma no banco antes de responder que o estacionamento
+        // está cheio, cobrindo vagas alteradas fora da aplicação.
+        if (vagas.size() < quantidade) {
+            List<Long> ignoradas = vagas.isEmpty() ? List.of(-1L) : vagas.stream().map(Vaga::getId).toList();
+            for (Vaga vaga : vagaRepository.findLivresParaAtualizacao(LIVRE, ignoradas, Limit.of(quantidade - vagas.size()))) {
+                vagasLivres.registrar(vaga.getId(), false);
+                vagas.add(vaga);
+            }
+        }
+
+        if (!vagas.isEmpty()) {
+            List<Long> alocadas = vagas.stream().map(Vaga::getId).toList();
+            TransacaoUtils.aposRollback(() -> alocadas.forEach(vagasLivres::liberar));
+        }
+        return vagas;
+    }
+
+    private List<Long> reservar(int quantidade) {
+        List<Long> reservadas = new ArrayList<>(quantidade);
+        Optional<Long> reservada;
+        while (reservadas.size() < quantidade && (reservada = vagasLivres.reservar()).isPresent()) {
+            reservadas.add(reservada.get());
+        }
+        return reservadas;
+    }
+
+    // A vaga só volta para o mapa depois do commit do check-out, quando o banco já a mostra LIVRE.
+    @Override
+    public void liberar(Vaga vaga) {
+        Long vagaId = vaga.getId();
+        TransacaoUtils.aposCommit(() -> vagasLivres.registrar(vagaId, true));
+    }
+
+    @Override
+    public void registrar(Vaga vaga) {
+        Long vagaId = vaga.getId();
+        boolean livre = vaga.getStatus() == LIVRE;
+        TransacaoUtils.aposCommit(() -> vagasLivres.registrar(vagaId, livre));
+    }
+}
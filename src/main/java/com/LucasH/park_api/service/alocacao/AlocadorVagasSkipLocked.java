@@ -0,0 +1,38 @@
+package com.LucasH.park_api.service.alocacao;
+
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.VagaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
+
+// Alocador para vários nós da aplicação compartilhando o mesmo banco. A vaga é escolhida e
+// bloqueada com SELECT ... FOR UPDATE SKIP LOCKED; o lock dura até o fim da transação do
+// check-in, então não há estado em memória para liberar ou registrar.
+@Component
+@ConditionalOnProperty(name = "park.vagas.alocacao", havingValue = "skip-locked")
+public class AlocadorVagasSkipLocked implements AlocadorVagas {
+
+    private final VagaRepository vagaRepository;
+
+    public AlocadorVagasSkipLocked(VagaRepository vagaRepository) {
+        this.vagaRepository = vagaRepository;
+    }
+
+    @Override
+    public List<Vaga> alocar(int quantidade) {
+        return vagaRepository.findByStatusIgnorandoBloqueadas(LIVRE, Limit.of(quantidade));
+    }
+
+    @Override
+    public void liberar(Vaga vaga) {
+    }
+
+    @Override
+    public void registrar(Vaga vaga) {
+    }
+}
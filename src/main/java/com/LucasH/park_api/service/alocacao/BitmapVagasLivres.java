@@ -0,0 +1,109 @@
+package com.LucasH.park_api.service.alocacao;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mapa de bits das vagas livres. Cada vaga ocupa um bit dentro de uma palavra de 64 bits:
+// bit ligado = vaga livre. A reserva desliga o bit com compareAndSet, então duas threads
+// nunca recebem a mesma vaga. Cadastrar vagas novas (operação rara) é sincronizado; reservar
+// e liberar não usam lock.
+public class BitmapVagasLivres {
+
+    private static final int BITS_POR_PALAVRA = 64;
+
+    // As palavras nunca são trocadas, apenas acrescentadas: um array novo reaproveita os mesmos
+    // AtomicLong do anterior, assim nenhuma reserva concorrente ao crescimento é perdida.
+    private volatile AtomicLong[] palavras = new AtomicLong[0];
+    private volatile long[] idsPorIndice = new long[0];
+    private final Map<Long, Integer> indicePorId = new ConcurrentHashMap<>();
+
+    // Ponto de partida da busca, para as threads não disputarem sempre a primeira palavra
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public Optional<Long> reservar() {
+        AtomicLong[] atual = this.palavras;
+        int total = atual.length;
+        if (total == 0) {
+            return Optional.empty();
+        }
+        int inicio = Math.floorMod(cursor.getAndIncrement(), total);
+        for (int i = 0; i < total; i++) {
+            int posicao = (inicio + i) % total;
+            AtomicLong palavra = atual[posicao];
+            long bits = palavra.get();
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                if (palavra.compareAndSet(bits, bits & ~(1L << bit))) {
+                    return Optional.of(this.idsPorIndice[posicao * BITS_POR_PALAVRA + bit]);
+                }
+                bits = palavra.get();
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void liberar(Long vagaId) {
+        Integer indice = indicePorId.get(vagaId);
+        if (indice == null) {
+            return;
+        }
+        long mascara = 1L << (indice % BITS_POR_PALAVRA);
+        this.palavras[indice / BITS_POR_PALAVRA].getAndUpdate(bits -> bits | mascara);
+    }
+
+    public void ocupar(Long vagaId) {
+        Integer indice = indicePorId.get(vagaId);
+        if (indice == null) {
+            return;
+        }
+        long mascara = 1L << (indice % BITS_POR_PALAVRA);
+        this.palavras[indice / BITS_POR_PALAVRA].getAndUpdate(bits -> bits & ~mascara);
+    }
+
+    public void registrar(Long vagaId, boolean livre) {
+        if (!indicePorId.containsKey(vagaId)) {
+            adicionar(vagaId);
+        }
+        if (livre) {
+            liberar(vagaId);
+        } else {
+            ocupar(vagaId);
+        }
+    }
+
+    public int getTotalVagas() {
+        return indicePorId.size();
+    }
+
+    private synchronized void adicionar(Long vagaId) {
+        if (indicePorId.containsKey(vagaId)) {
+            return;
+        }
+        int indice = indicePorId.size();
+        long[] ids = this.idsPorIndice;
+        if (indice >= ids.length) {
+            int novoTamanho = Math.max(BITS_POR_PALAVRA, ids.length * 2);
+            long[] novosIds = new long[novoTamanho];
+            System.arraycopy(ids, 0, novosIds, 0, ids.length);
+            ids = novosIds;
+        }
+        ids[indice] = vagaId;
+        // ids são publicados antes das palavras: quem enxerga a palavra nova enxerga o id
+        this.idsPorIndice = ids;
+
+        AtomicLong[] atual = this.palavras;
+        int palavrasNecessarias = indice / BITS_POR_PALAVRA + 1;
+        if (palavrasNecessarias > atual.length) {
+            AtomicLong[] novas = new AtomicLong[palavrasNecessarias];
+            System.arraycopy(atual, 0, novas, 0, atual.length);
+            for (int i = atual.length; i < novas.length; i++) {
+                novas[i] = new AtomicLong();
+            }
+            this.palavras = novas;
+        }
+        indicePorId.put(vagaId, indice);
+    }
+}
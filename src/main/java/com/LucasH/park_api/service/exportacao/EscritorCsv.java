@@ -0,0 +1,67 @@
+package com.LucasH.park_api.service.exportacao;
+
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// CSV separado por vírgula (RFC 4180): campos com vírgula, aspas ou quebra de linha vão entre aspas.
+class EscritorCsv implements EscritorExportacao {
+
+    static final String CABECALHO = "id,recibo,clienteCpf,placa,marca,modelo,cor,vagaCodigo,dataEntrada,dataSaida,valor,desconto";
+
+    private final Writer saida;
+
+    EscritorCsv(OutputStream saida) throws IOException {
+        this.saida = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 16 * 1024);
+        this.saida.write(CABECALHO);
+        this.saida.write("\r\n");
+    }
+
+    @Override
+    public void escrever(ClienteVagaCursorProjection linha) throws IOException {
+        saida.write(String.valueOf(linha.getId()));
+        campo(linha.getRecibo());
+        campo(linha.getClienteCpf());
+        campo(linha.getPlaca());
+        campo(linha.getMarca());
+        campo(linha.getModelo());
+        campo(linha.getCor());
+        campo(linha.getVagaCodigo());
+        campo(EscritorExportacao.formatar(linha.getDataEntrada()));
+        campo(EscritorExportacao.formatar(linha.getDataSaida()));
+        campo(linha.getValor() == null ? null : linha.getValor().toPlainString());
+        campo(linha.getDesconto() == null ? null : linha.getDesconto().toPlainString());
+        saida.write("\r\n");
+    }
+
+    private void campo(Object valor) throws IOException {
+        saida.write(',');
+        if (valor == null) {
+            return;
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            saida.write(texto);
+            return;
+        }
+        saida.write('"');
+        saida.write(texto.replace("\"", "\"\""));
+        saida.write('"');
+    }
+
+    @Override
+    public void descarregar() throws IOException {
+        saida.flush();
+    }
+
+    // Só descarrega: fechar o Writer fecharia também a saída da resposta
+    @Override
+    public void close() throws IOException {
+        saida.flush();
+    }
+}
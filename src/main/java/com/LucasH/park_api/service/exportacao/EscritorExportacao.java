@@ -0,0 +1,24 @@
+package com.LucasH.park_api.service.exportacao;
+
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Escreve um registro de estacionamento por vez na saída. O close() descarrega o buffer
+// mas não fecha a saída, que pertence a quem chamou.
+interface EscritorExportacao extends AutoCloseable {
+
+    void escrever(ClienteVagaCursorProjection linha) throws IOException;
+
+    void descarregar() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    // ISO 8601 sempre com os segundos (o toString() de LocalDateTime omite segundos zerados)
+    static String formatar(LocalDateTime data) {
+        return data == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(data);
+    }
+}
@@ -0,0 +1,67 @@
+package com.LucasH.park_api.service.exportacao;
+
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Um objeto JSON por linha. Escreve direto no JsonGenerator, sem criar um Map ou DTO por registro.
+class EscritorNdjson implements EscritorExportacao {
+
+    private final JsonGenerator gerador;
+
+    EscritorNdjson(JsonFactory fabrica, OutputStream saida) throws IOException {
+        this.gerador = fabrica.createGenerator(saida);
+        this.gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.gerador.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void escrever(ClienteVagaCursorProjection linha) throws IOException {
+        gerador.writeStartObject();
+        gerador.writeNumberField("id", linha.getId());
+        gerador.writeStringField("recibo", linha.getRecibo());
+        gerador.writeStringField("clienteCpf", linha.getClienteCpf());
+        gerador.writeStringField("placa", linha.getPlaca());
+        gerador.writeStringField("marca", linha.getMarca());
+        gerador.writeStringField("modelo", linha.getModelo());
+        gerador.writeStringField("cor", linha.getCor());
+        gerador.writeStringField("vagaCodigo", linha.getVagaCodigo());
+        escreverData("dataEntrada", linha.getDataEntrada());
+        escreverData("dataSaida", linha.getDataSaida());
+        escreverValor("valor", linha.getValor());
+        escreverValor("desconto", linha.getDesconto());
+        gerador.writeEndObject();
+        gerador.writeRaw('\n');
+    }
+
+    private void escreverData(String campo, LocalDateTime data) throws IOException {
+        if (data == null) {
+            gerador.writeNullField(campo);
+        } else {
+            gerador.writeStringField(campo, EscritorExportacao.formatar(data));
+        }
+    }
+
+    private void escreverValor(String campo, BigDecimal valor) throws IOException {
+        if (valor == null) {
+            gerador.writeNullField(campo);
+        } else {
+            gerador.writeNumberField(campo, valor);
+        }
+    }
+
+    @Override
+    public void descarregar() throws IOException {
+        gerador.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        gerador.close();
+    }
+}
@@ -0,0 +1,65 @@
+package com.LucasH.park_api.service.exportacao;
+
+import com.LucasH.park_api.exeception.ExportacaoInvalidaException;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import com.LucasH.park_api.service.ClienteVagaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Exportação do histórico de estacionamentos para conciliação. As linhas saem do cursor do banco
+// direto para a resposta, uma a uma, então o consumo de memória não depende do tamanho do período.
+@Slf4j
+@Service
+public class ExportacaoService {
+
+    // A cada N linhas o buffer é enviado ao cliente, que começa a receber antes do fim da consulta
+    private static final int LINHAS_POR_ENVIO = 1000;
+
+    private final ClienteVagaService clienteVagaService;
+    private final ObjectMapper objectMapper;
+
+    public ExportacaoService(ClienteVagaService clienteVagaService, ObjectMapper objectMapper) {
+        this.clienteVagaService = clienteVagaService;
+        this.objectMapper = objectMapper;
+    }
+
+    public void validarPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        if (!fim.isAfter(inicio)) {
+            throw new ExportacaoInvalidaException("A data 'fim' deve ser posterior à data 'inicio'");
+        }
+    }
+
+    // Executado pela thread que escreve a resposta: a transação precisa ficar aberta enquanto o Stream é lido
+    @Transactional(readOnly = true)
+    public long exportar(LocalDateTime inicio, LocalDateTime fim, String cpf,
+                         FormatoExportacao formato, OutputStream saida) throws IOException {
+        long total = 0;
+        try (Stream<ClienteVagaCursorProjection> linhas = clienteVagaService.buscarParaExportacao(inicio, fim, cpf);
+             EscritorExportacao escritor = criarEscritor(formato, saida)) {
+            Iterator<ClienteVagaCursorProjection> iterator = linhas.iterator();
+            while (iterator.hasNext()) {
+                escritor.escrever(iterator.next());
+                if (++total % LINHAS_POR_ENVIO == 0) {
+                    escritor.descarregar();
+                }
+            }
+        }
+        log.info("Exportação {} de {} a {} concluída com {} registros", formato, inicio, fim, total);
+        return total;
+    }
+
+    private EscritorExportacao criarEscritor(FormatoExportacao formato, OutputStream saida) throws IOException {
+        return switch (formato) {
+            case NDJSON -> new EscritorNdjson(objectMapper.getFactory(), saida);
+            case CSV -> new EscritorCsv(saida);
+        };
+    }
+}
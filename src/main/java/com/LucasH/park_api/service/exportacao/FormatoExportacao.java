@@ -0,0 +1,28 @@
+package com.LucasH.park_api.service.exportacao;
+
+import com.LucasH.park_api.exeception.ExportacaoInvalidaException;
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public enum FormatoExportacao {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public static FormatoExportacao de(String formato) {
+        try {
+            return valueOf(formato.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ExportacaoInvalidaException(String.format("Formato '%s' inválido, use ndjson ou csv", formato));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.LucasH.park_api.service.idempotencia;
+
+import com.LucasH.park_api.exeception.IdempotenciaConflitoException;
+import com.LucasH.park_api.exeception.IdempotenciaIndisponivelException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Resultados das operações enviadas com o cabeçalho Idempotency-Key (check-in e check-out).
+// A primeira requisição com uma chave executa a operação; as repetições (terminal que reenviou
+// depois de um timeout) recebem o mesmo resultado sem executar de novo. Uma repetição que chega
+// enquanto a primeira ainda está em andamento espera por ela no CompletableFuture da entrada, até o
+// tempo máximo de espera.
+// Só resultados de sucesso ficam guardados: se a operação falhar a chave é liberada para nova tentativa.
+// As entradas valem pelo tempo de validade e o tamanho do registro é limitado: cheio, o registro
+// descarta as entradas concluídas mais antigas; se todas ainda estão em andamento, recusa a requisição.
+@Slf4j
+@Component
+public class RegistroIdempotencia {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    private static final long INTERVALO_LIMPEZA_MILLIS = 1_000;
+    // Fração do registro descartada de uma vez quando ele enche, para não ordenar o mapa a cada requisição
+    private static final int FRACAO_DESCARTE = 10;
+
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final int tamanhoMaximo;
+    private final long validadeMillis;
+    private final long esperaMillis;
+    private volatile long proximaLimpeza;
+
+    private record Entrada(String assinatura, CompletableFuture<Object> resultado, long expiraEm) {
+        boolean isExpirada(long agora) {
+            return expiraEm <= agora && resultado.isDone();
+        }
+    }
+
+    public RegistroIdempotencia(@Value("${park.idempotencia.tamanho-maximo:10000}") int tamanhoMaximo,
+                                @Value("${park.idempotencia.validade:24h}") Duration validade,
+                                @Value("${park.idempotencia.espera:10s}") Duration espera) {
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.validadeMillis = validade.toMillis();
+        this.esperaMillis = espera.toMillis();
+    }
+
+    // chave: operação + Idempotency-Key. assinatura: dados da requisição; a mesma chave com dados
+    // diferentes é um erro do cliente e não devolve o resultado de outra operação.
+    @SuppressWarnings("unchecked")
+    public <T> T executar(String chave, String assinatura, Supplier<T> operacao) {
+        long agora = System.currentTimeMillis();
+        Entrada nova = new Entrada(assinatura, new CompletableFuture<>(), agora + validadeMillis);
+        while (true) {
+            Entrada existente = entradas.get(chave);
+            if (existente == null) {
+                if (!temEspaco()) {
+                    log.warn("Registro de idempotência cheio ({} entradas em andamento): chave {} recusada", entradas.size(), chave);
+                    throw new IdempotenciaIndisponivelException(
+                            "Muitas operações com chave de idempotência em andamento, tente novamente");
+                }
+                if (entradas.putIfAbsent(chave, nova) == null) {
+                    return (T) executarPrimeira(chave, nova, operacao);
+                }
+            } else if (existente.isExpirada(agora)) {
+                if (entradas.replace(chave, existente, nova)) {
+                    return (T) executarPrimeira(chave, nova, operacao);
+                }
+            } else {
+                if (!existente.assinatura().equals(assinatura)) {
+                    throw new IdempotenciaConflitoException(
+                            "A chave de idempotência já foi usada em uma requisição com outros dados");
+                }
+                return (T) aguardar(existente);
+            }
+        }
+    }
+
+    public int getTamanho() {
+        return entradas.size();
+    }
+
+    // Qualquer falha (inclusive Error) libera a chave e acorda as repetições que esperam na entrada
+    private Object executarPrimeira(String chave, Entrada entrada, Supplier<?> operacao) {
+        try {
+            Object resultado = operacao.get();
+            entrada.resultado().complete(resultado);
+            return resultado;
+        } catch (Throwable ex) {
+            entradas.remove(chave, entrada);
+            entrada.resultado().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    // A repetição recebe a mesma resposta da primeira, ou a mesma exceção se ela falhou
+    private Object aguardar(Entrada entrada) {
+        try {
+            return entrada.resultado().get(esperaMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IdempotenciaIndisponivelException(
+                    "A operação com esta chave de idempotência ainda está em andamento, tente novamente");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotenciaIndisponivelException(
+                    "Espera pela operação com esta chave de idempotência interrompida");
+        }
+    }
+
+    private boolean temEspaco() {
+        if (entradas.size() < tamanhoMaximo) {
+            return true;
+        }
+        removerExpiradas();
+        if (entradas.size() < tamanhoMaximo) {
+            return true;
+        }
+        descartarMaisAntigas();
+        return entradas.size() < tamanhoMaximo;
+    }
+
+    // Varre o mapa no máximo uma vez por intervalo, para o registro cheio não custar uma varredura por requisição
+    private void removerExpiradas() {
+        long agora = System.currentTimeMillis();
+        if (agora < proximaLimpeza) {
+            return;
+        }
+        proximaLimpeza = agora + INTERVALO_LIMPEZA_MILLIS;
+        entradas.values().removeIf(entrada -> entrada.isExpirada(agora));
+        log.debug("Registro de idempotência com {} entradas após a limpeza", entradas.size());
+    }
+
+    // Registro cheio de entradas válidas: descarta as concluídas mais antigas (menor validade restante).
+    // Uma repetição dessas chaves volta a executar; as em andamento nunca são descartadas.
+    private void descartarMaisAntigas() {
+        int quantidade = Math.max(1, tamanhoMaximo / FRACAO_DESCARTE);
+        entradas.entrySet().stream()
+                .filter(e -> e.getValue().resultado().isDone())
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiraEm()))
+                .limit(quantidade)
+                .toList()
+                .forEach(e -> entradas.remove(e.getKey(), e.getValue()));
+        log.warn("Registro de idempotência cheio: entradas concluídas mais antigas descartadas, {} restantes", entradas.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.LucasH.park_api.service.ocupacao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Canal de eventos dos painéis (SSE): totais de ocupação e mudanças de status de cada vaga,
+// publicados depois do commit do check-in/check-out.
+// Cada assinante tem sua própria fila. Quem publica só entrega o evento às filas, sem escrever
+// na conexão; um painel lento acumula no máximo os últimos totais e a última mudança de cada vaga,
+// sem atrasar os outros painéis nem a transação que publicou.
+@Component
+public class CanalOcupacao {
+
+    private static final Duration INTERVALO_KEEP_ALIVE = Duration.ofSeconds(15);
+
+    private final Sinks.Many<Ocupacao> ocupacoes = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<MudancaVaga> mudancas = Sinks.many().multicast().directBestEffort();
+    // Lock em vez de synchronized: no modo virtual threads não prende a thread de plataforma
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Duration intervalo;
+    private final int limiteFila;
+
+    public CanalOcupacao(@Value("${park.ocupacao.eventos.intervalo:250ms}") Duration intervalo,
+                         @Value("${park.ocupacao.eventos.limite-fila:1000}") int limiteFila) {
+        this.intervalo = intervalo;
+        this.limiteFila = limiteFila;
+    }
+
+    // Publicações vindas de várias threads são serializadas: o Sink não aceita emissões simultâneas
+    public void publicar(Ocupacao ocupacao, Collection<MudancaVaga> mudancasVagas) {
+        lock.lock();
+        try {
+            for (MudancaVaga mudanca : mudancasVagas) {
+                mudancas.tryEmitNext(mudanca);
+            }
+            ocupacoes.tryEmitNext(ocupacao);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTotalAssinantes() {
+        return ocupacoes.currentSubscriberCount();
+    }
+
+    // O primeiro evento é a ocupação atual, depois vêm as alterações
+    public Flux<EventoOcupacao> assinar(Ocupacao atual) {
+        // Totais: rajadas de check-in viram um único evento por intervalo, sempre com o valor mais recente
+        Flux<EventoOcupacao> totais = ocupacoes.asFlux()
+                .sample(intervalo)
+                .onBackpressureLatest()
+                .map(EventoOcupacao.class::cast);
+
+        // Vagas: agrupadas por intervalo, ficando só a última mudança de cada vaga. Se o painel não
+        // consumir, os grupos mais antigos são descartados ao passar do limite da fila.
+        Flux<EventoOcupacao> vagas = mudancas.asFlux()
+                .buffer(intervalo)
+                .filter(lote -> !lote.isEmpty())
+                .map(CanalOcupacao::ultimaPorVaga)
+                .onBackpressureBuffer(limiteFila, lote -> { }, BufferOverflowStrategy.DROP_OLDEST)
+                .flatMapIterable(lote -> lote, 1);
+
+        Flux<EventoOcupacao> keepAlive = Flux.interval(INTERVALO_KEEP_ALIVE)
+                .onBackpressureDrop()
+                .map(i -> EventoOcupacao.KeepAlive.INSTANCIA);
+
+        // A escrita na conexão acontece fora das threads do Reactor, pedindo um evento por vez,
+        // para a coalescência acima valer quando o painel está lento
+        return Flux.merge(1, Flux.just(atual), totais, vagas, keepAlive)
+                .publishOn(Schedulers.boundedElastic(), 1);
+    }
+
+    private static List<MudancaVaga> ultimaPorVaga(List<MudancaVaga> lote) {
+        Map<String, MudancaVaga> ultimas = new LinkedHashMap<>();
+        for (MudancaVaga mudanca : lote) {
+            ultimas.remove(mudanca.codigo());
+            ultimas.put(mudanca.codigo(), mudanca);
+        }
+        return List.copyOf(ultimas.values());
+    }
+}
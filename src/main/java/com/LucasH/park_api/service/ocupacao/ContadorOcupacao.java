@@ -0,0 +1,129 @@
+package com.LucasH.park_api.service.ocupacao;
+
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.repository.projection.TotalVagasPorStatusProjection;
+import com.LucasH.park_api.util.TransacaoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.OCUPADA;
+
+// Totais de vagas livres e ocupadas mantidos em memória, para a consulta de ocupação não contar
+// a tabela de vagas. Os LongAdder espalham os incrementos de check-ins simultâneos em células
+// diferentes, sem disputa por um único contador.
+// As alterações só entram depois do commit, e então são publicadas no CanalOcupacao. Mudanças feitas
+// fora desta instância (outro nó ou direto no banco) são corrigidas pela reconciliação periódica.
+@Slf4j
+@Component
+public class ContadorOcupacao {
+
+    private final VagaRepository vagaRepository;
+    private final CanalOcupacao canalOcupacao;
+    private final LongAdder livres = new LongAdder();
+    private final LongAdder ocupadas = new LongAdder();
+
+    public ContadorOcupacao(VagaRepository vagaRepository, CanalOcupacao canalOcupacao) {
+        this.vagaRepository = vagaRepository;
+        this.canalOcupacao = canalOcupacao;
+    }
+
+    public void ocupar(Vaga vaga) {
+        ocupar(List.of(vaga));
+    }
+
+    public void ocupar(Collection<Vaga> vagas) {
+        alterar(vagas, OCUPADA);
+    }
+
+    public void liberar(Vaga vaga) {
+        liberar(List.of(vaga));
+    }
+
+    public void liberar(Collection<Vaga> vagas) {
+        alterar(vagas, LIVRE);
+    }
+
+    public void registrar(Vaga vaga) {
+        registrar(List.of(vaga));
+    }
+
+    // Vagas novas: um único evento para o lote inteiro depois do commit
+    public void registrar(Collection<Vaga> vagas) {
+        if (vagas.isEmpty()) {
+            return;
+        }
+        List<MudancaVaga> mudancas = vagas.stream().map(vaga -> new MudancaVaga(vaga.getCodigo(), vaga.getStatus())).toList();
+        long novasLivres = mudancas.stream().filter(mudanca -> mudanca.status() == LIVRE).count();
+        long novasOcupadas = mudancas.size() - novasLivres;
+        TransacaoUtils.aposCommit(() -> {
+            livres.add(novasLivres);
+            ocupadas.add(novasOcupadas);
+            canalOcupacao.publicar(getOcupacao(), mudancas);
+        });
+    }
+
+    public Ocupacao getOcupacao() {
+        return new Ocupacao(livres.sum(), ocupadas.sum());
+    }
+
+    // Os códigos são lidos antes do commit, enquanto as entidades ainda estão na sessão
+    private void alterar(Collection<Vaga> vagas, Vaga.StatusVaga status) {
+        if (vagas.isEmpty()) {
+            return;
+        }
+        List<MudancaVaga> mudancas = vagas.stream().map(vaga -> new MudancaVaga(vaga.getCodigo(), status)).toList();
+        int quantidade = mudancas.size();
+        TransacaoUtils.aposCommit(() -> {
+            if (status == OCUPADA) {
+                mover(livres, ocupadas, quantidade);
+            } else {
+                mover(ocupadas, livres, quantidade);
+            }
+            canalOcupacao.publicar(getOcupacao(), mudancas);
+        });
+    }
+
+    // Substitui os totais pelos do banco. Uma alteração confirmada durante a própria reconciliação
+    // pode ser contada duas vezes ou nenhuma; a diferença some na execução seguinte.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${park.ocupacao.reconciliacao:PT60S}", initialDelayString = "${park.ocupacao.reconciliacao:PT60S}")
+    @Transactional(readOnly = true)
+    public void reconciliar() {
+        long totalLivres = 0;
+        long totalOcupadas = 0;
+        for (TotalVagasPorStatusProjection total : vagaRepository.countPorStatus()) {
+            if (total.getStatus() == LIVRE) {
+                totalLivres = total.getTotal();
+            } else if (total.getStatus() == OCUPADA) {
+                totalOcupadas = total.getTotal();
+            }
+        }
+        Ocupacao anterior = getOcupacao();
+        ajustar(livres, totalLivres);
+        ajustar(ocupadas, totalOcupadas);
+        if (anterior.livres() != totalLivres || anterior.ocupadas() != totalOcupadas) {
+            log.info("Ocupação reconciliada: livres {} -> {}, ocupadas {} -> {}",
+                    anterior.livres(), totalLivres, anterior.ocupadas(), totalOcupadas);
+            canalOcupacao.publicar(getOcupacao(), List.of());
+        }
+    }
+
+    private static void mover(LongAdder origem, LongAdder destino, int quantidade) {
+        origem.add(-quantidade);
+        destino.add(quantidade);
+    }
+
+    private static void ajustar(LongAdder contador, long valor) {
+        contador.add(valor - contador.sum());
+    }
+}
@@ -0,0 +1,10 @@
+package com.LucasH.park_api.service.ocupacao;
+
+// Eventos enviados aos painéis pelo CanalOcupacao
+public sealed interface EventoOcupacao permits Ocupacao, MudancaVaga, EventoOcupacao.KeepAlive {
+
+    // Evento vazio enviado periodicamente para a conexão não ser encerrada por inatividade
+    enum KeepAlive implements EventoOcupacao {
+        INSTANCIA
+    }
+}
@@ -0,0 +1,7 @@
+package com.LucasH.park_api.service.ocupacao;
+
+import com.LucasH.park_api.entity.Vaga;
+
+// Novo status de uma vaga, publicado depois do commit do check-in/check-out ou do cadastro
+public record MudancaVaga(String codigo, Vaga.StatusVaga status) implements EventoOcupacao {
+}
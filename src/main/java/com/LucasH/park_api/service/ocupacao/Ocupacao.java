@@ -0,0 +1,9 @@
+package com.LucasH.park_api.service.ocupacao;
+
+// Totais de vagas livres e ocupadas
+public record Ocupacao(long livres, long ocupadas) implements EventoOcupacao {
+
+    public long total() {
+        return livres + ocupadas;
+    }
+}
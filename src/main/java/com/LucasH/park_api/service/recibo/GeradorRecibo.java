@@ -0,0 +1,8 @@
+package com.LucasH.park_api.service.recibo;
+
+// Gera o número do recibo de um check-in (coluna numero_recibo, até 15 caracteres e única).
+// A implementação ativa é definida pela propriedade park.recibo.gerador (sequencial | data-hora).
+public interface GeradorRecibo {
+
+    String gerar();
+}
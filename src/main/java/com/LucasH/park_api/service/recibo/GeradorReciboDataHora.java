@@ -0,0 +1,17 @@
+package com.LucasH.park_api.service.recibo;
+
+import com.LucasH.park_api.util.EstacionamentoUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Formato original (yyyyMMdd-HHmmss). Dois check-ins no mesmo segundo geram o mesmo recibo,
+// por isso só deve ser usado onde esse volume não acontece.
+@Component
+@ConditionalOnProperty(name = "park.recibo.gerador", havingValue = "data-hora")
+public class GeradorReciboDataHora implements GeradorRecibo {
+
+    @Override
+    public String gerar() {
+        return EstacionamentoUtils.gerarRecibo();
+    }
+}
@@ -0,0 +1,79 @@
+package com.LucasH.park_api.service.recibo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Recibo no formato Snowflake: 41 bits de milissegundos desde 2024-01-01, 10 bits com o número
+// da instância (park.recibo.no) e 12 bits de sequência dentro do mesmo milissegundo.
+// O valor é escrito em 13 caracteres Base32 (Crockford) de tamanho fixo, então a ordem
+// alfabética dos recibos é a mesma ordem de geração.
+@Component
+@ConditionalOnProperty(name = "park.recibo.gerador", havingValue = "sequencial", matchIfMissing = true)
+public class GeradorReciboSequencial implements GeradorRecibo {
+
+    static final long EPOCA = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int BITS_NO = 10;
+    static final int BITS_SEQUENCIA = 12;
+    static final long MAXIMO_NO = (1L << BITS_NO) - 1;
+    static final int TAMANHO = 13;
+
+    private static final byte[] ALFABETO = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    private final long no;
+    private final LongSupplier relogio;
+
+    // Guarda (milissegundo << 12 | sequência) do último recibo gerado. Quando a sequência
+    // estoura dentro do mesmo milissegundo o valor "empresta" o milissegundo seguinte,
+    // mantendo a geração crescente mesmo se o relógio do sistema voltar.
+    private final AtomicLong ultimo = new AtomicLong();
+
+    // Dois construtores: o Spring precisa saber qual usar (o outro é para os testes controlarem o relógio)
+    @Autowired
+    public GeradorReciboSequencial(@Value("${park.recibo.no:0}") long no) {
+        this(no, System::currentTimeMillis);
+    }
+
+    GeradorReciboSequencial(long no, LongSupplier relogio) {
+        if (no < 0 || no > MAXIMO_NO) {
+            throw new IllegalArgumentException("park.recibo.no deve estar entre 0 e " + MAXIMO_NO);
+        }
+        this.no = no;
+        this.relogio = relogio;
+    }
+
+    @Override
+    public String gerar() {
+        return codificar(proximoId());
+    }
+
+    // Não aloca objetos: apenas um compareAndSet sobre o último valor gerado.
+    public long proximoId() {
+        long agora = (relogio.getAsLong() - EPOCA) << BITS_SEQUENCIA;
+        long anterior;
+        long proximo;
+        do {
+            anterior = ultimo.get();
+            proximo = agora > anterior ? agora : anterior + 1;
+        } while (!ultimo.compareAndSet(anterior, proximo));
+
+        long milissegundo = proximo >>> BITS_SEQUENCIA;
+        long sequencia = proximo & ((1L << BITS_SEQUENCIA) - 1);
+        return (milissegundo << (BITS_NO + BITS_SEQUENCIA)) | (no << BITS_SEQUENCIA) | sequencia;
+    }
+
+    static String codificar(long id) {
+        byte[] texto = new byte[TAMANHO];
+        for (int i = TAMANHO - 1; i >= 0; i--) {
+            texto[i] = ALFABETO[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(texto, StandardCharsets.US_ASCII);
+    }
+}
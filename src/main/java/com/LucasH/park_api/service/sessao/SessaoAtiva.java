@@ -0,0 +1,27 @@
+package com.LucasH.park_api.service.sessao;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+
+import java.time.LocalDateTime;
+
+// Cópia imutável de um estacionamento em aberto (check-in sem check-out), com os dados que a
+// consulta por recibo ou placa devolve. Não mantém referência à entidade nem à sessão do Hibernate.
+public record SessaoAtiva(Long id, String recibo, String placa, String marca, String modelo, String cor,
+                          LocalDateTime dataEntrada, String clienteCpf, String vagaCodigo,
+                          LocalDateTime dataModificacao) {
+
+    public static SessaoAtiva de(ClienteVaga clienteVaga) {
+        return new SessaoAtiva(
+                clienteVaga.getId(),
+                clienteVaga.getRecibo(),
+                clienteVaga.getPlaca(),
+                clienteVaga.getMarca(),
+                clienteVaga.getModelo(),
+                clienteVaga.getCor(),
+                clienteVaga.getDataEntrada(),
+                clienteVaga.getCliente() == null ? null : clienteVaga.getCliente().getCpf(),
+                clienteVaga.getVaga() == null ? null : clienteVaga.getVaga().getCodigo(),
+                clienteVaga.getDataModificacao()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.LucasH.park_api.service.sessao;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Estacionamentos em aberto, por recibo e por placa. A implementação ativa é definida pela
+// propriedade park.sessoes.ativas (memoria | banco).
+public interface SessoesAtivas {
+
+    Optional<SessaoAtiva> buscarPorRecibo(String recibo);
+
+    Optional<SessaoAtiva> buscarPorPlaca(String placa);
+
+    // Chamado dentro da transação do check-in, com recibo e placa já preenchidos.
+    // Lança VeiculoJaEstacionadoException se a placa já tem um estacionamento em aberto.
+    void iniciar(ClienteVaga clienteVaga);
+
+    // Desfaz um iniciar cujo check-in não será gravado (item de lote sem vaga livre).
+    void cancelar(ClienteVaga clienteVaga);
+
+    // Chamado dentro da transação do check-out.
+    void encerrar(ClienteVaga clienteVaga);
+
+    // "wsp4569", "WSP 4569" e "WSP-4569" são a mesma placa: gravada no padrão XXX-0000 do check-in
+    static String normalizarPlaca(String placa) {
+        String letrasENumeros = placa.replaceAll("[^A-Za-z0-9]", "").toUpperCase(Locale.ROOT);
+        return letrasENumeros.length() == 7
+                ? letrasENumeros.substring(0, 3) + "-" + letrasENumeros.substring(3)
+                : letrasENumeros;
+    }
+}
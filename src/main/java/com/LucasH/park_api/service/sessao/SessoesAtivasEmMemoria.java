@@ -0,0 +1,100 @@
+package com.LucasH.park_api.service.sessao;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.repository.ClienteVagaRepository;
+import com.LucasH.park_api.util.TransacaoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Registro em memória dos estacionamentos em aberto, carregado na subida da aplicação e mantido
+// pelo check-in e check-out. As consultas por recibo e placa não vão ao banco.
+// A placa é reservada com putIfAbsent ainda dentro da transação do check-in, então dois check-ins
+// simultâneos do mesmo veículo não passam; a sessão só fica visível depois do commit.
+// Vale para uma única instância da aplicação: com várias instâncias use park.sessoes.ativas=banco.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "park.sessoes.ativas", havingValue = "memoria", matchIfMissing = true)
+public class SessoesAtivasEmMemoria implements SessoesAtivas {
+
+    private final ClienteVagaRepository clienteVagaRepository;
+    private final Map<String, SessaoAtiva> porRecibo = new ConcurrentHashMap<>();
+    // placa normalizada -> recibo do estacionamento em aberto (ou em check-in)
+    private final Map<String, String> reciboPorPlaca = new ConcurrentHashMap<>();
+
+    public SessoesAtivasEmMemoria(ClienteVagaRepository clienteVagaRepository) {
+        this.clienteVagaRepository = clienteVagaRepository;
+    }
+
+    // Carga completa a partir do banco: o conteúdo anterior é descartado. Feita na subida, antes de
+    // qualquer check-in; recarregar com check-ins em andamento perderia as placas reservadas por eles.
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        porRecibo.clear();
+        reciboPorPlaca.clear();
+        for (ClienteVaga clienteVaga : clienteVagaRepository.findAllByDataSaidaIsNull()) {
+            String placa = SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca());
+            String existente = reciboPorPlaca.putIfAbsent(placa, clienteVaga.getRecibo());
+            if (existente != null && !existente.equals(clienteVaga.getRecibo())) {
+                log.warn("Placa {} com mais de um estacionamento em aberto: recibos {} e {}",
+                        placa, existente, clienteVaga.getRecibo());
+            }
+            porRecibo.put(clienteVaga.getRecibo(), SessaoAtiva.de(clienteVaga));
+        }
+        log.info("Registro de sessões carregado com {} estacionamentos em aberto", porRecibo.size());
+    }
+
+    @Override
+    public Optional<SessaoAtiva> buscarPorRecibo(String recibo) {
+        return Optional.ofNullable(porRecibo.get(recibo));
+    }
+
+    @Override
+    public Optional<SessaoAtiva> buscarPorPlaca(String placa) {
+        String recibo = reciboPorPlaca.get(SessoesAtivas.normalizarPlaca(placa));
+        // Check-in ainda não confirmado: a placa está reservada, mas a sessão não existe
+        return recibo == null ? Optional.empty() : Optional.ofNullable(porRecibo.get(recibo));
+    }
+
+    @Override
+    public void iniciar(ClienteVaga clienteVaga) {
+        String placa = SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca());
+        String recibo = clienteVaga.getRecibo();
+        if (reciboPorPlaca.putIfAbsent(placa, recibo) != null) {
+            throw new VeiculoJaEstacionadoException("Veiculo de placa " + placa + " já está estacionado");
+        }
+        TransacaoUtils.aposRollback(() -> reciboPorPlaca.remove(placa, recibo));
+        // A cópia é feita no commit, quando o registro já tem id, vaga e data de modificação
+        TransacaoUtils.aposCommit(() -> {
+            if (recibo.equals(reciboPorPlaca.get(placa))) {
+                porRecibo.put(recibo, SessaoAtiva.de(clienteVaga));
+            }
+        });
+    }
+
+    @Override
+    public void cancelar(ClienteVaga clienteVaga) {
+        reciboPorPlaca.remove(SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca()), clienteVaga.getRecibo());
+    }
+
+    @Override
+    public void encerrar(ClienteVaga clienteVaga) {
+        String placa = SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca());
+        String recibo = clienteVaga.getRecibo();
+        TransacaoUtils.aposCommit(() -> {
+            porRecibo.remove(recibo);
+            reciboPorPlaca.remove(placa, recibo);
+        });
+    }
+
+    public int getTotalSessoes() {
+        return porRecibo.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.LucasH.park_api.service.sessao;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.repository.ClienteVagaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Consulta os estacionamentos em aberto direto na tabela principal, para várias instâncias da
+// aplicação no mesmo banco. A verificação de placa já estacionada é feita com uma consulta; dois
+// check-ins simultâneos do mesmo veículo passam por ela, e o segundo é recusado no insert pelo
+// índice único de placa em aberto (uk_cliente_tem_vagas_placa_aberta).
+@Component
+@ConditionalOnProperty(name = "park.sessoes.ativas", havingValue = "banco")
+public class SessoesAtivasNoBanco implements SessoesAtivas {
+
+    private final ClienteVagaRepository clienteVagaRepository;
+
+    public SessoesAtivasNoBanco(ClienteVagaRepository clienteVagaRepository) {
+        this.clienteVagaRepository = clienteVagaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SessaoAtiva> buscarPorRecibo(String recibo) {
+        return clienteVagaRepository.findByReciboAndDataSaidaIsNull(recibo).map(SessaoAtiva::de);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SessaoAtiva> buscarPorPlaca(String placa) {
+        return clienteVagaRepository.findFirstByPlacaAndDataSaidaIsNull(SessoesAtivas.normalizarPlaca(placa))
+                .map(SessaoAtiva::de);
+    }
+
+    @Override
+    public void iniciar(ClienteVaga clienteVaga) {
+        String placa = SessoesAtivas.normalizarPlaca(clienteVaga.getPlaca());
+        if (clienteVagaRepository.existsByPlacaAndDataSaidaIsNull(placa)) {
+            throw new VeiculoJaEstacionadoException("Veiculo de placa " + placa + " já está estacionado");
+        }
+    }
+
+    @Override
+    public void cancelar(ClienteVaga clienteVaga) {
+    }
+
+    @Override
+    public void encerrar(ClienteVaga clienteVaga) {
+    }
+}
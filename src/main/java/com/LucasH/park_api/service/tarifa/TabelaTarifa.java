@@ -0,0 +1,104 @@
+package com.LucasH.park_api.service.tarifa;
+
+import com.LucasH.park_api.exeception.TarifaInvalidaException;
+
+import java.util.Arrays;
+
+// Tabela de preços do estacionamento em centavos (long). Imutável: para trocar a tarifa
+// uma tabela nova é criada e publicada no TarifaService, sem afetar cálculos em andamento.
+//
+// Faixas: até minutosFaixas[i] minutos cobra centavosFaixas[i]. Depois da última faixa cobra
+// centavosAdicional a cada minutosAdicional minutos (ou fração). Com teto diário maior que
+// zero, cada período de 24 horas custa no máximo esse valor.
+public final class TabelaTarifa {
+
+    public static final long MINUTOS_POR_DIA = 24 * 60;
+
+    private final long[] minutosFaixas;
+    private final long[] centavosFaixas;
+    private final long minutosAdicional;
+    private final long centavosAdicional;
+    private final long tetoDiarioCentavos;
+
+    public TabelaTarifa(long[] minutosFaixas, long[] centavosFaixas, long minutosAdicional,
+                        long centavosAdicional, long tetoDiarioCentavos) {
+        if (minutosFaixas.length == 0 || minutosFaixas.length != centavosFaixas.length) {
+            throw new TarifaInvalidaException("A tabela de tarifa precisa de ao menos uma faixa com minutos e valor");
+        }
+        for (int i = 0; i < minutosFaixas.length; i++) {
+            if (minutosFaixas[i] <= 0 || centavosFaixas[i] < 0) {
+                throw new TarifaInvalidaException("Faixa de tarifa com minutos ou valor inválido");
+            }
+            if (i > 0 && minutosFaixas[i] <= minutosFaixas[i - 1]) {
+                throw new TarifaInvalidaException("As faixas de tarifa devem estar em ordem crescente de minutos");
+            }
+        }
+        if (minutosAdicional <= 0 || centavosAdicional < 0 || tetoDiarioCentavos < 0) {
+            throw new TarifaInvalidaException("Adicional ou teto diário da tarifa inválido");
+        }
+        this.minutosFaixas = minutosFaixas.clone();
+        this.centavosFaixas = centavosFaixas.clone();
+        this.minutosAdicional = minutosAdicional;
+        this.centavosAdicional = centavosAdicional;
+        this.tetoDiarioCentavos = tetoDiarioCentavos;
+    }
+
+    // Tabela usada até aqui: 5,00 até 15 minutos, 9,25 até 60 minutos e 1,75 a cada 15 minutos adicionais
+    public static TabelaTarifa padrao() {
+        return new TabelaTarifa(new long[]{15, 60}, new long[]{500, 925}, 15, 175, 0);
+    }
+
+    public long calcular(long minutos) {
+        if (tetoDiarioCentavos == 0) {
+            return calcularSemTeto(minutos);
+        }
+        long dias = minutos / MINUTOS_POR_DIA;
+        long resto = minutos % MINUTOS_POR_DIA;
+        long total = dias * tetoDiarioCentavos;
+        if (resto > 0 || dias == 0) {
+            total += Math.min(tetoDiarioCentavos, calcularSemTeto(resto));
+        }
+        return total;
+    }
+
+    private long calcularSemTeto(long minutos) {
+        for (int i = 0; i < minutosFaixas.length; i++) {
+            if (minutos <= minutosFaixas[i]) {
+                return centavosFaixas[i];
+            }
+        }
+        int ultima = minutosFaixas.length - 1;
+        long intervalosAdicionais = (minutos - minutosFaixas[ultima] + minutosAdicional - 1) / minutosAdicional;
+        return centavosFaixas[ultima] + centavosAdicional * intervalosAdicionais;
+    }
+
+    public int getTotalFaixas() {
+        return minutosFaixas.length;
+    }
+
+    public long getMinutosFaixa(int indice) {
+        return minutosFaixas[indice];
+    }
+
+    public long getCentavosFaixa(int indice) {
+        return centavosFaixas[indice];
+    }
+
+    public long getMinutosAdicional() {
+        return minutosAdicional;
+    }
+
+    public long getCentavosAdicional() {
+        return centavosAdicional;
+    }
+
+    public long getTetoDiarioCentavos() {
+        return tetoDiarioCentavos;
+    }
+
+    @Override
+    public String toString() {
+        return "TabelaTarifa{faixas=" + Arrays.toString(minutosFaixas) + " -> " + Arrays.toString(centavosFaixas) +
+                ", adicional=" + minutosAdicional + " -> " + centavosAdicional + ", tetoDiario=" + tetoDiarioCentavos + "}";
+    }
+}
@@ -0,0 +1,29 @@
+package com.LucasH.park_api.service.tarifa;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Tabela de tarifa carregada do application.properties (park.tarifa.*), valores em reais
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "park.tarifa")
+public class TarifaProperties {
+
+    private List<Faixa> faixas = new ArrayList<>();
+    private Faixa adicional = new Faixa();
+    private BigDecimal tetoDiario = BigDecimal.ZERO;
+
+    @Getter
+    @Setter
+    public static class Faixa {
+        private long minutos;
+        private BigDecimal valor = BigDecimal.ZERO;
+    }
+}
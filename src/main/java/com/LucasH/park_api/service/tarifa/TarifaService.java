@@ -0,0 +1,81 @@
+package com.LucasH.park_api.service.tarifa;
+
+import com.LucasH.park_api.exeception.TarifaInvalidaException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// Motor de tarifa em centavos. A tabela vigente fica em um campo volatile: trocar a tarifa em tempo
+// de execução é só publicar uma tabela nova, cada cálculo usa a tabela que leu no início.
+// Os valores só viram BigDecimal no fim, ao gravar o estacionamento.
+@Slf4j
+@Service
+public class TarifaService {
+
+    // Desconto de fidelidade: 30% a cada 10 estacionamentos concluídos
+    private static final long DESCONTO_PERCENTUAL = 30;
+    private static final long INTERVALO_DESCONTO = 10;
+
+    private volatile TabelaTarifa tabela;
+
+    public TarifaService(TarifaProperties properties) {
+        this.tabela = properties.getFaixas().isEmpty() ? TabelaTarifa.padrao() : toTabela(properties);
+        log.info("Tarifa carregada: {}", this.tabela);
+    }
+
+    public TabelaTarifa getTabela() {
+        return tabela;
+    }
+
+    public void atualizar(TabelaTarifa novaTabela) {
+        this.tabela = novaTabela;
+        log.info("Tarifa atualizada: {}", novaTabela);
+    }
+
+    public long calcularCusto(LocalDateTime entrada, LocalDateTime saida) {
+        return tabela.calcular(entrada.until(saida, ChronoUnit.MINUTES));
+    }
+
+    // Mesmo arredondamento do cálculo original (HALF_EVEN em centavos)
+    public static long calcularDesconto(long custoCentavos, long numeroDeVezes) {
+        if (numeroDeVezes == 0 || numeroDeVezes % INTERVALO_DESCONTO != 0) {
+            return 0;
+        }
+        long produto = custoCentavos * DESCONTO_PERCENTUAL;
+        long desconto = produto / 100;
+        long resto = produto % 100;
+        if (resto > 50 || (resto == 50 && desconto % 2 != 0)) {
+            desconto++;
+        }
+        return desconto;
+    }
+
+    public static BigDecimal emReais(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    public static long emCentavos(BigDecimal reais) {
+        try {
+            return reais.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new TarifaInvalidaException("Valor " + reais + " não pode ser representado em centavos");
+        }
+    }
+
+    private static TabelaTarifa toTabela(TarifaProperties properties) {
+        List<TarifaProperties.Faixa> faixas = properties.getFaixas();
+        long[] minutos = new long[faixas.size()];
+        long[] centavos = new long[faixas.size()];
+        for (int i = 0; i < faixas.size(); i++) {
+            minutos[i] = faixas.get(i).getMinutos();
+            centavos[i] = emCentavos(faixas.get(i).getValor());
+        }
+        return new TabelaTarifa(minutos, centavos, properties.getAdicional().getMinutos(),
+                emCentavos(properties.getAdicional().getValor()), emCentavos(properties.getTetoDiario()));
+    }
+}
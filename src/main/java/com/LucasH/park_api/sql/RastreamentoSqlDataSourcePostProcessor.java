@@ -0,0 +1,36 @@
+package com.LucasH.park_api.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Envolve o DataSource (Hikari) no proxy do datasource-proxy, que avisa o RastreamentoSqlListener
+// a cada comando executado. O pool continua acessível por unwrap, então as métricas do Hikari seguem funcionando.
+// Os ResultSets não passam pelo proxy: interceptar cada ResultSet.next custaria em todas as consultas,
+// amostradas ou não.
+@Component
+@ConditionalOnProperty(name = "park.sql.rastreamento.habilitado", havingValue = "true")
+public class RastreamentoSqlDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<RastreamentoSqlListener> listener;
+
+    public RastreamentoSqlDataSourcePostProcessor(ObjectProvider<RastreamentoSqlListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            RastreamentoSqlListener rastreamento = listener.getObject();
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(rastreamento)
+                    .build();
+        }
+        return bean;
+    }
+}
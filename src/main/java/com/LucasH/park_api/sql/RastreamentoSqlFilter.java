@@ -0,0 +1,44 @@
+package com.LucasH.park_api.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Abre o registro de SQL de cada requisição e o entrega ao relatório no fim.
+// Fica antes do filtro de segurança para contar também as consultas feitas na autenticação.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "park.sql.rastreamento.habilitado", havingValue = "true")
+public class RastreamentoSqlFilter extends OncePerRequestFilter {
+
+    private final RelatorioSql relatorio;
+    private final double amostragem;
+
+    public RastreamentoSqlFilter(RelatorioSql relatorio,
+                                 @Value("${park.sql.rastreamento.amostragem:0.01}") double amostragem) {
+        this.relatorio = relatorio;
+        this.amostragem = amostragem;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean amostrada = amostragem > 0 && ThreadLocalRandom.current().nextDouble() < amostragem;
+        RegistroSqlRequisicao registro = RegistroSqlRequisicao.iniciar(request.getMethod(), request.getRequestURI(), amostrada);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RegistroSqlRequisicao.encerrar();
+            relatorio.requisicao(registro);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.LucasH.park_api.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// Recebe do datasource-proxy cada comando executado no banco: anota no registro da requisição
+// e manda para o relatório os comandos acima do limite de lentidão (com ou sem amostragem).
+@Component
+@ConditionalOnProperty(name = "park.sql.rastreamento.habilitado", havingValue = "true")
+public class RastreamentoSqlListener implements QueryExecutionListener {
+
+    private final RelatorioSql relatorio;
+    private final long lentoMs;
+
+    public RastreamentoSqlListener(RelatorioSql relatorio,
+                                   @Value("${park.sql.rastreamento.lento:250ms}") Duration lento) {
+        this.relatorio = relatorio;
+        this.lentoMs = lento.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RegistroSqlRequisicao registro = RegistroSqlRequisicao.atual();
+        long duracaoMs = execInfo.getElapsedTime();
+        Long linhas = linhasAlteradas(execInfo.getResult());
+        for (QueryInfo queryInfo : queryInfoList) {
+            int bindings = queryInfo.getParametersList().stream().mapToInt(List::size).sum();
+            if (duracaoMs >= lentoMs) {
+                relatorio.comandoLento(registro, queryInfo.getQuery(), bindings, duracaoMs, linhas);
+            }
+            if (registro != null) {
+                registro.registrar(queryInfo.getQuery(), bindings, duracaoMs, linhas);
+            }
+        }
+    }
+
+    // INSERT/UPDATE/DELETE: total de linhas alteradas; em lote, a soma do lote. SELECT fica sem o
+    // campo (null): o proxy não percorre o ResultSet, então não há contagem de linhas lidas
+    private static Long linhasAlteradas(Object resultado) {
+        if (resultado instanceof Integer linhas) {
+            return (long) Math.max(linhas, 0);
+        }
+        if (resultado instanceof int[] lote) {
+            long total = 0;
+            for (int linhas : lote) {
+                total += Math.max(linhas, 0);
+            }
+            return total;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,118 @@
+package com.LucasH.park_api.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Comandos SQL executados durante uma requisição HTTP, guardados na thread da requisição.
+// A contagem por comando é sempre mantida (detecção de N+1); o detalhe de cada comando
+// (bindings, duração e linhas alteradas, null em SELECT) só é guardado quando a requisição foi sorteada na amostragem.
+public class RegistroSqlRequisicao {
+
+    private static final ThreadLocal<RegistroSqlRequisicao> ATUAL = new ThreadLocal<>();
+
+    private final String metodo;
+    private final String uri;
+    private final boolean amostrada;
+    private final Map<String, Integer> execucoesPorSql = new HashMap<>();
+    private final List<ComandoSql> comandos = new ArrayList<>();
+    private int totalComandos;
+    private long duracaoTotalMs;
+
+    public RegistroSqlRequisicao(String metodo, String uri, boolean amostrada) {
+        this.metodo = metodo;
+        this.uri = uri;
+        this.amostrada = amostrada;
+    }
+
+    public static RegistroSqlRequisicao iniciar(String metodo, String uri, boolean amostrada) {
+        RegistroSqlRequisicao registro = new RegistroSqlRequisicao(metodo, uri, amostrada);
+        ATUAL.set(registro);
+        return registro;
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    // null fora de uma requisição (jobs agendados, Flyway, respostas assíncronas)
+    public static RegistroSqlRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    public void registrar(String sql, int bindings, long duracaoMs, Long linhas) {
+        execucoesPorSql.merge(sql, 1, Integer::sum);
+        totalComandos++;
+        duracaoTotalMs += duracaoMs;
+        if (amostrada) {
+            comandos.add(new ComandoSql(sql, bindings, duracaoMs, linhas));
+        }
+    }
+
+    // Comandos repetidos pelo menos 'limite' vezes na mesma requisição: sinal de N+1
+    public Map<String, Integer> repeticoes(int limite) {
+        Map<String, Integer> repetidos = new HashMap<>();
+        execucoesPorSql.forEach((sql, execucoes) -> {
+            if (execucoes >= limite) {
+                repetidos.put(sql, execucoes);
+            }
+        });
+        return repetidos;
+    }
+
+    public String getMetodo() {
+        return metodo;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public boolean isAmostrada() {
+        return amostrada;
+    }
+
+    public List<ComandoSql> getComandos() {
+        return comandos;
+    }
+
+    public int getTotalComandos() {
+        return totalComandos;
+    }
+
+    public long getDuracaoTotalMs() {
+        return duracaoTotalMs;
+    }
+
+    public static class ComandoSql {
+
+        private final String sql;
+        private final int bindings;
+        private final long duracaoMs;
+        private final Long linhas;
+
+        ComandoSql(String sql, int bindings, long duracaoMs, Long linhas) {
+            this.sql = sql;
+            this.bindings = bindings;
+            this.duracaoMs = duracaoMs;
+            this.linhas = linhas;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getBindings() {
+            return bindings;
+        }
+
+        public long getDuracaoMs() {
+            return duracaoMs;
+        }
+
+        public Long getLinhas() {
+            return linhas;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.LucasH.park_api.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Escreve no log o que o rastreamento de SQL encontrou, numa thread própria: a requisição só
+// entrega o registro e segue. A fila é limitada; se o log não acompanhar, os relatórios mais
+// antigos são descartados em vez de segurar as requisições.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "park.sql.rastreamento.habilitado", havingValue = "true")
+public class RelatorioSql implements DisposableBean {
+
+    private final int limiteRepeticoes;
+    private final ThreadPoolExecutor executor;
+
+    public RelatorioSql(@Value("${park.sql.rastreamento.n-mais-um.limite:10}") int limiteRepeticoes,
+                        @Value("${park.sql.rastreamento.fila:10000}") int tamanhoFila) {
+        this.limiteRepeticoes = limiteRepeticoes;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(tamanhoFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "relatorio-sql");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    public void comandoLento(RegistroSqlRequisicao registro, String sql, int bindings, long duracaoMs, Long linhas) {
+        String metodo = registro == null ? "-" : registro.getMetodo();
+        String uri = registro == null ? "-" : registro.getUri();
+        executor.execute(() -> log.warn("sql.lento metodo={} uri={} duracaoMs={} bindings={}{} sql=\"{}\"",
+                metodo, uri, duracaoMs, bindings, campoLinhas(linhas), sql));
+    }
+
+    // Chamado no fim da requisição, quando o registro não recebe mais comandos
+    public void requisicao(RegistroSqlRequisicao registro) {
+        if (registro.getTotalComandos() == 0) {
+            return;
+        }
+        executor.execute(() -> {
+            Map<String, Integer> repeticoes = registro.repeticoes(limiteRepeticoes);
+            repeticoes.forEach((sql, execucoes) ->
+                    log.warn("sql.n-mais-um metodo={} uri={} execucoes={} sql=\"{}\"",
+                            registro.getMetodo(), registro.getUri(), execucoes, sql));
+
+            if (registro.isAmostrada()) {
+                log.info("sql.requisicao metodo={} uri={} comandos={} duracaoMs={}",
+                        registro.getMetodo(), registro.getUri(), registro.getTotalComandos(), registro.getDuracaoTotalMs());
+                for (RegistroSqlRequisicao.ComandoSql comando : registro.getComandos()) {
+                    log.info("sql.comando metodo={} uri={} duracaoMs={} bindings={}{} sql=\"{}\"",
+                            registro.getMetodo(), registro.getUri(), comando.getDuracaoMs(),
+                            comando.getBindings(), campoLinhas(comando.getLinhas()), comando.getSql());
+                }
+            }
+        });
+    }
+
+    // "linhas=" só aparece nos comandos que alteram linhas; em SELECT o campo é omitido
+    private static String campoLinhas(Long linhas) {
+        return linhas == null ? "" : " linhas=" + linhas;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package com.LucasH.park_api.util;
+
+import com.LucasH.park_api.exeception.CursorInvalidoException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Cursor da paginação por chave (dataEntrada, id). Para o cliente da API é um texto opaco:
+// "dataEntrada|id" em Base64 URL-safe.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorUtils {
+
+    private static final String SEPARADOR = "|";
+
+    public record Posicao(LocalDateTime dataEntrada, Long id) {
+    }
+
+    public static String codificar(LocalDateTime dataEntrada, Long id) {
+        String valor = dataEntrada + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Cursor vazio representa a primeira página
+    public static Posicao decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            return new Posicao(LocalDateTime.parse(valor.substring(0, separador)), Long.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new CursorInvalidoException("Cursor " + cursor + " inválido");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.LucasH.park_api.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+// ETag de versão: "id-dataModificacao". Muda sempre que o AuditingEntityListener atualiza a
+// dataModificacao, então não é preciso serializar o corpo para saber se o recurso mudou.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EtagUtils {
+
+    public static String versao(Long id, LocalDateTime dataModificacao) {
+        if (dataModificacao == null) {
+            // Linha gravada direto no banco, sem auditoria
+            return id + "-0";
+        }
+        // O banco guarda microssegundos: a versão lida do banco e a da entidade recém-salva ficam iguais
+        LocalDateTime instante = dataModificacao.truncatedTo(ChronoUnit.MICROS);
+        return id + "-" + instante.toEpochSecond(ZoneOffset.UTC) + "." + instante.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,97 @@
+package com.LucasH.park_api.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Junta duas sequências já ordenadas pela mesma ordem (tabela principal e arquivo) em uma só,
+// sem reordenar. Elementos iguais pela ordem são o mesmo registro lido das duas tabelas durante
+// um arquivamento e aparecem uma vez só.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class IntercalacaoUtils {
+
+    public static <T> List<T> intercalar(List<T> primeira, List<T> segunda, Comparator<? super T> ordem, int limite) {
+        List<T> resultado = new ArrayList<>(Math.min(limite, primeira.size() + segunda.size()));
+        Iterator<T> iterator = new Intercalacao<>(primeira.iterator(), segunda.iterator(), ordem);
+        while (iterator.hasNext() && resultado.size() < limite) {
+            resultado.add(iterator.next());
+        }
+        return resultado;
+    }
+
+    // Lê as duas Streams sob demanda; fechar o resultado fecha as duas
+    public static <T> Stream<T> intercalar(Stream<T> primeira, Stream<T> segunda, Comparator<? super T> ordem) {
+        Iterator<T> iterator = new Intercalacao<>(primeira.iterator(), segunda.iterator(), ordem);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try (primeira) {
+                        segunda.close();
+                    }
+                });
+    }
+
+    private static class Intercalacao<T> implements Iterator<T> {
+
+        private final Iterator<T> primeira;
+        private final Iterator<T> segunda;
+        private final Comparator<? super T> ordem;
+        private T proximaPrimeira;
+        private T proximaSegunda;
+
+        Intercalacao(Iterator<T> primeira, Iterator<T> segunda, Comparator<? super T> ordem) {
+            this.primeira = primeira;
+            this.segunda = segunda;
+            this.ordem = ordem;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (proximaPrimeira == null && primeira.hasNext()) {
+                proximaPrimeira = primeira.next();
+            }
+            if (proximaSegunda == null && segunda.hasNext()) {
+                proximaSegunda = segunda.next();
+            }
+            return proximaPrimeira != null || proximaSegunda != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T proxima;
+            if (proximaSegunda == null) {
+                proxima = proximaPrimeira;
+                proximaPrimeira = null;
+                return proxima;
+            }
+            if (proximaPrimeira == null) {
+                proxima = proximaSegunda;
+                proximaSegunda = null;
+                return proxima;
+            }
+            int comparacao = ordem.compare(proximaPrimeira, proximaSegunda);
+            if (comparacao <= 0) {
+                proxima = proximaPrimeira;
+                proximaPrimeira = null;
+                if (comparacao == 0) {
+                    proximaSegunda = null;
+                }
+            } else {
+                proxima = proximaSegunda;
+                proximaSegunda = null;
+            }
+            return proxima;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.LucasH.park_api.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransacaoUtils {
+
+    // Executa a ação somente depois que a transação atual for confirmada (commit).
+    // Fora de uma transação a ação é executada na hora.
+    public static void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    // Executa a ação caso a transação atual termine sem commit (rollback ou erro).
+    // Fora de uma transação não há o que desfazer, então nada é executado.
+    public static void aposRollback(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    acao.run();
+                }
+            }
+        });
+    }
+}
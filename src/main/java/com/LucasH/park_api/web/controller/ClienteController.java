@@ -6,9 +6,11 @@ import com.LucasH.park_api.jwt.JwtUserDetails;
 import com.LucasH.park_api.repository.projection.ClienteProjection;
 import com.LucasH.park_api.service.ClienteService;
 import com.LucasH.park_api.service.UsuarioService;
+import com.LucasH.park_api.util.EtagUtils;
 import com.LucasH.park_api.web.dto.ClienteCreateDto;
 import com.LucasH.park_api.web.dto.ClienteResponseDto;
 import com.LucasH.park_api.web.dto.PageableDto;
+import com.LucasH.park_api.web.dto.SliceDto;
 import com.LucasH.park_api.web.dto.UsuarioResponseDto;
 import com.LucasH.park_api.web.dto.mapper.ClienteMapper;
 import com.LucasH.park_api.web.dto.mapper.PageableMapper;
@@ -27,10 +29,12 @@ import lombok.RequiredArgsConstructor;
 import org.modelmapper.spi.ErrorMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.management.Query;
 import java.util.List;
@@ -80,9 +84,14 @@ public class ClienteController {
             })
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<ClienteResponseDto> getById(@PathVariable Long id) {
+    public ResponseEntity<ClienteResponseDto> getById(@PathVariable Long id, WebRequest request) {
+        // O cliente vem do cache de segundo nível pelo id; com If-None-Match igual à versão o corpo nem é montado
         Cliente cliente = clienteService.buscarPorId(id);
-        return ResponseEntity.ok(ClienteMapper.toDto(cliente));
+        String etag = EtagUtils.versao(cliente.getId(), cliente.getDataModificacao());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ClienteMapper.toDto(cliente));
     }
 
     @Operation(summary = "Localiza todos os clientes",
@@ -117,6 +126,36 @@ public class ClienteController {
         return ResponseEntity.ok(PageableMapper.toDto(clientes));
     }
 
+    @Operation(summary = "Localiza todos os clientes sem contagem",
+            description = "Com 'contar=false' a página não traz totalPages/totalElements e sim 'hasNext', evitando a consulta de contagem." +
+                    " Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "contar", required = true,
+                            description = "false para não contar o total de registros"
+                    ),
+                    @Parameter(in = ParameterIn.QUERY, name = "page",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "0")),
+                            description = "Representa a página retornada"
+                    ),
+                    @Parameter(in = ParameterIn.QUERY, name = "size",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "20")),
+                            description = "Representa o total de elementos por página"
+                    ),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = SliceDto.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitido ao perfil de CLIENTE",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+    @GetMapping(params = "contar=false")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<SliceDto> getAllSemContagem(@Parameter(hidden = true) Pageable pageable) {
+        Slice<ClienteProjection> clientes = clienteService.buscarTodosSemContagem(pageable);
+        return ResponseEntity.ok(PageableMapper.toSliceDto(clientes));
+    }
+
     @Operation(summary = "Recuperar dados do cliente autenticado",
             description = " Requisição exige uso de um bearer token. Acesso restrito a Role='CLIENTE'",
             security = @SecurityRequirement(name = "security"),
@@ -2,16 +2,30 @@ package com.LucasH.park_api.web.controller;
 
 import com.LucasH.park_api.entity.ClienteVaga;
 import com.LucasH.park_api.jwt.JwtUserDetails;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
 import com.LucasH.park_api.repository.projection.ClienteVagaProjection;
 import com.LucasH.park_api.service.ClienteService;
 import com.LucasH.park_api.service.ClienteVagaService;
 import com.LucasH.park_api.service.EstacionamentoService;
+import com.LucasH.park_api.service.ResultadoLote;
+import com.LucasH.park_api.service.exportacao.ExportacaoService;
+import com.LucasH.park_api.service.exportacao.FormatoExportacao;
+import com.LucasH.park_api.service.idempotencia.RegistroIdempotencia;
+import com.LucasH.park_api.service.sessao.SessaoAtiva;
+import com.LucasH.park_api.util.EtagUtils;
+import com.LucasH.park_api.web.dto.CheckOutLoteDto;
+import com.LucasH.park_api.web.dto.CursorPageDto;
 import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.LucasH.park_api.web.dto.EstacionamentoLoteCreateDto;
+import com.LucasH.park_api.web.dto.EstacionamentoLoteResponseDto;
 import com.LucasH.park_api.web.dto.EstacionamentoResponseDto;
 import com.LucasH.park_api.web.dto.PageableDto;
+import com.LucasH.park_api.web.dto.SliceDto;
 import com.LucasH.park_api.web.dto.mapper.ClienteVagaMapper;
 import com.LucasH.park_api.web.dto.mapper.PageableMapper;
 import com.LucasH.park_api.web.exeception.ErrorMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -22,30 +36,72 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Tag(name = "Estacionamentos", description = "Operação de registro de entrada e saida de um veiculo do estacionamento.")
-@RequiredArgsConstructor
 @RestController
 @RequestMapping("api/v1/estacionamentos")
 public class EstacionamentoController {
 
+    private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
     private final EstacionamentoService estacionamentoService;
     private final ClienteVagaService clienteVagaService;
     private final ClienteService clienteService;
+    private final ExportacaoService exportacaoService;
+    private final RegistroIdempotencia registroIdempotencia;
+    private final Duration timeoutExportacao;
+    // Timers da métrica park.mapper criados uma vez, sem procurar no MeterRegistry a cada requisição
+    private final Timer mapperToClienteVaga;
+    private final Timer mapperToDto;
+    private final Timer mapperToListClienteVaga;
+    private final Timer mapperToListLoteDto;
+    private final Timer mapperToPageableDto;
+    private final Timer mapperToSliceDto;
+    private final Timer mapperToCursorDto;
+
+    public EstacionamentoController(EstacionamentoService estacionamentoService, ClienteVagaService clienteVagaService,
+                                    ClienteService clienteService, ExportacaoService exportacaoService,
+                                    MeterRegistry meterRegistry, RegistroIdempotencia registroIdempotencia,
+                                    @Value("${park.exportacao.timeout:1h}") Duration timeoutExportacao) {
+        this.estacionamentoService = estacionamentoService;
+        this.clienteVagaService = clienteVagaService;
+        this.clienteService = clienteService;
+        this.exportacaoService = exportacaoService;
+        this.registroIdempotencia = registroIdempotencia;
+        this.timeoutExportacao = timeoutExportacao;
+        this.mapperToClienteVaga = timerMapper(meterRegistry, "ClienteVagaMapper.toClienteVaga");
+        this.mapperToDto = timerMapper(meterRegistry, "ClienteVagaMapper.toDto");
+        this.mapperToListClienteVaga = timerMapper(meterRegistry, "ClienteVagaMapper.toListClienteVaga");
+        this.mapperToListLoteDto = timerMapper(meterRegistry, "ClienteVagaMapper.toListLoteDto");
+        this.mapperToPageableDto = timerMapper(meterRegistry, "PageableMapper.toDto");
+        this.mapperToSliceDto = timerMapper(meterRegistry, "PageableMapper.toSliceDto");
+        this.mapperToCursorDto = timerMapper(meterRegistry, "PageableMapper.toCursorDto");
+    }
 
 
     @Operation(summary = "Operação de check-in", description = "Recurso para dar entradde um veiculo no estacionamento",
@@ -62,28 +118,86 @@ public class EstacionamentoController {
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                 @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "409", description = "Causas possiveis: <br/>" +
+                            "- Veiculo com a placa informada já está estacionado <br/>" +
+                            "- Idempotency-Key já utilizada com outros dados de check-in",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "503", description = "Requisição anterior com a mesma Idempotency-Key ainda em andamento " +
+                            "ou registro de idempotência cheio; tentar novamente",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
             })
     @PostMapping("/check-in")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<EstacionamentoResponseDto> checkIn (@RequestBody @Valid EstacionamentoCreateDto dto) {
-        ClienteVaga clienteVaga = ClienteVagaMapper.toClienteVaga(dto);
-        estacionamentoService.checkIn(clienteVaga);
+    public ResponseEntity<EstacionamentoResponseDto> checkIn (@RequestBody @Valid EstacionamentoCreateDto dto,
+                                                              @RequestHeader(name = RegistroIdempotencia.CABECALHO, required = false) String chaveIdempotencia) {
+        EstacionamentoResponseDto responseDto = executarUmaVez("check-in", chaveIdempotencia,
+                String.join("|", dto.getPlaca(), dto.getMarca(), dto.getModelo(), dto.getCor(), dto.getClienteCpf()),
+                () -> {
+                    ClienteVaga clienteVaga = mapperToClienteVaga.record(() -> ClienteVagaMapper.toClienteVaga(dto));
+                    estacionamentoService.checkIn(clienteVaga);
+                    return mapperToDto.record(() -> ClienteVagaMapper.toDto(clienteVaga));
+                });
 
-        EstacionamentoResponseDto responseDto = ClienteVagaMapper.toDto(clienteVaga);
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequestUri().path("/{recibo}")
-                .buildAndExpand(clienteVaga.getRecibo())
+                .buildAndExpand(responseDto.getRecibo())
                 .toUri();
 
         return ResponseEntity.created(location).body(responseDto);
     }
 
+    @Operation(summary = "Operação de check-in em lote", description = "Recurso para dar entrada em vários veiculos de uma vez. " +
+            "Cada item da resposta traz o status que teria na operação individual (201, 404 ou 409) e o registro criado ou a mensagem de erro",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EstacionamentoLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "422", description = "Recurso não processado por falta de dados ou dados inválidos",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @PostMapping("/check-in/lote")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<EstacionamentoLoteResponseDto>> checkInLote(@RequestBody @Valid EstacionamentoLoteCreateDto dto) {
+        List<ResultadoLote> resultados = estacionamentoService.checkInLote(
+                mapperToListClienteVaga.record(() -> ClienteVagaMapper.toListClienteVaga(dto.getItens())));
+        return ResponseEntity.ok(mapperToListLoteDto.record(() -> ClienteVagaMapper.toListLoteDto(resultados, HttpStatus.CREATED)));
+    }
+
     @GetMapping("/{check-in}/{recibo}")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'USER')")
-    public ResponseEntity<EstacionamentoResponseDto> getByRecibo(@PathVariable String recibo) {
-        ClienteVaga clienteVaga = clienteVagaService.buscarPorRecibo(recibo);
-        EstacionamentoResponseDto dto = ClienteVagaMapper.toDto(clienteVaga);
-        return ResponseEntity.ok(dto);
+    public ResponseEntity<EstacionamentoResponseDto> getByRecibo(@PathVariable String recibo, WebRequest request) {
+        return responderSessao(clienteVagaService.buscarSessaoPorRecibo(recibo), request);
+    }
+
+    @Operation(summary = "Localizar veiculo estacionado pela placa", description = "Recurso para localizar o estacionamento em aberto " +
+            "de um veiculo pela placa (com ou sem hífen, maiúsculas ou minúsculas). Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EstacionamentoResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Nenhum veiculo com a placa informada está estacionado",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping("/check-in/placa/{placa}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<EstacionamentoResponseDto> getByPlaca(@PathVariable String placa, WebRequest request) {
+        return responderSessao(clienteVagaService.buscarSessaoPorPlaca(placa), request);
+    }
+
+    // A versão vem da própria sessão: o GET condicional (If-None-Match) não faz consulta extra
+    private ResponseEntity<EstacionamentoResponseDto> responderSessao(SessaoAtiva sessao, WebRequest request) {
+        String etag = EtagUtils.versao(sessao.id(), sessao.dataModificacao());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ClienteVagaMapper.toDto(sessao));
     }
 
     @Operation(summary = "Operação de check-out", description = "Recurso para dar saida um veiculo no estacionamento",
@@ -94,15 +208,42 @@ public class EstacionamentoController {
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "409", description = "Idempotency-Key já utilizada para outro recibo",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "503", description = "Requisição anterior com a mesma Idempotency-Key ainda em andamento " +
+                            "ou registro de idempotência cheio; tentar novamente",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
             })
     @PostMapping("/check-out/{recibo}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<EstacionamentoResponseDto> checkOut(@PathVariable String recibo) {
-        ClienteVaga clienteVaga = estacionamentoService.checkOut(recibo);
-        EstacionamentoResponseDto dto = ClienteVagaMapper.toDto(clienteVaga);
+    public ResponseEntity<EstacionamentoResponseDto> checkOut(@PathVariable String recibo,
+                                                              @RequestHeader(name = RegistroIdempotencia.CABECALHO, required = false) String chaveIdempotencia) {
+        EstacionamentoResponseDto dto = executarUmaVez("check-out", chaveIdempotencia, recibo, () -> {
+            ClienteVaga clienteVaga = estacionamentoService.checkOut(recibo);
+            return mapperToDto.record(() -> ClienteVagaMapper.toDto(clienteVaga));
+        });
         return ResponseEntity.ok(dto);
     }
 
+    @Operation(summary = "Operação de check-out em lote", description = "Recurso para dar saida em vários veiculos de uma vez. " +
+            "Cada item da resposta traz o status que teria na operação individual (200 ou 404) e o registro atualizado ou a mensagem de erro",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EstacionamentoLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "422", description = "Recurso não processado por falta de dados ou dados inválidos",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @PostMapping("/check-out/lote")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<EstacionamentoLoteResponseDto>> checkOutLote(@RequestBody @Valid CheckOutLoteDto dto) {
+        List<ResultadoLote> resultados = estacionamentoService.checkOutLote(dto.getRecibos());
+        return ResponseEntity.ok(mapperToListLoteDto.record(() -> ClienteVagaMapper.toListLoteDto(resultados, HttpStatus.OK)));
+    }
+
 
     @Operation(summary = "Localizar os registros de estacionamnetos do cliente por CPF", description = "Localizar os registros de estacionamnetos do cliente por CPF." +
             "Requisição exige bearer toke, ROLE=ADMIN",
@@ -133,10 +274,65 @@ public class EstacionamentoController {
                                                                   @PageableDefault(size = 5, sort = "dataEntrada",
                                                                   direction = Sort.Direction.ASC) Pageable pageable) {
        Page<ClienteVagaProjection> projectionPage = clienteVagaService.buscarTodosProClienteCpf(cpf, pageable);
-       PageableDto dto = PageableMapper.toDto(projectionPage);
+       PageableDto dto = mapperToPageableDto.record(() -> PageableMapper.toDto(projectionPage));
        return ResponseEntity.ok(dto);
     }
 
+    @Operation(summary = "Localizar os registros de estacionamnetos do cliente por CPF sem contagem",
+            description = "Com 'contar=false' a página não traz totalPages/totalElements e sim 'hasNext', evitando a consulta de contagem. " +
+            "Requisição exige bearer toke, ROLE=ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "cpf", description = "N° do CPF referente ao cliente a ser consultado", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "contar", description = "false para não contar o total de registros", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Representa a página a ser retornada",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "0"))),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Representa o total de elementos por pagina",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5"))),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SliceDto.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping(value = "/cpf/{cpf}", params = {"contar=false", "!cursor"})
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<SliceDto> getAllEstacionamentoPorCpfSemContagem(@PathVariable String cpf,
+                                                                         @PageableDefault(size = 5, sort = "dataEntrada",
+                                                                         direction = Sort.Direction.ASC) Pageable pageable) {
+        Slice<ClienteVagaProjection> projectionSlice = clienteVagaService.buscarTodosProClienteCpfSemContagem(cpf, pageable);
+        return ResponseEntity.ok(mapperToSliceDto.record(() -> PageableMapper.toSliceDto(projectionSlice)));
+    }
+
+    @Operation(summary = "Localizar os registros de estacionamnetos do cliente por CPF com paginação por cursor",
+            description = "Listagem ordenada por data de entrada que avança pelo cursor retornado em 'nextCursor' em vez do número da página. " +
+            "Envie 'cursor' vazio para a primeira página. Requisição exige bearer toke, ROLE=ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "cpf", description = "N° do CPF referente ao cliente a ser consultado", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor retornado na página anterior (vazio na primeira)", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Representa o total de elementos por pagina",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5"))),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping(value = "/cpf/{cpf}", params = "cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPageDto> getAllEstacionamentoPorCpfPorCursor(@PathVariable String cpf,
+                                                                            @RequestParam String cursor,
+                                                                            @RequestParam(defaultValue = "5") int size) {
+        int tamanho = limitarTamanho(size);
+        List<ClienteVagaCursorProjection> linhas = clienteVagaService.buscarPorCursorClienteCpf(cpf, cursor, tamanho);
+        return ResponseEntity.ok(mapperToCursorDto.record(() -> PageableMapper.toCursorDto(linhas, tamanho)));
+    }
+
 
     @Operation(summary = "Localizar os registros de estacionamnetos do cliente por CPF", description = "Localizar os registros de estacionamnetos do cliente por CPF." +
             "Requisição exige bearer toke, ROLE=ADMIN",
@@ -167,7 +363,120 @@ public class EstacionamentoController {
                                                                                     @PageableDefault(size = 5, sort = "dataEntrada",
                                                                                     direction = Sort.Direction.ASC) Pageable pageable) {
         Page<ClienteVagaProjection> projectionPage = clienteVagaService.buscarTodosPorUsuarioId(userDetails.getId(), pageable);
-        PageableDto dto = PageableMapper.toDto(projectionPage);
+        PageableDto dto = mapperToPageableDto.record(() -> PageableMapper.toDto(projectionPage));
         return ResponseEntity.ok(dto);
     }
+
+    @Operation(summary = "Localizar os registros de estacionamentos do cliente logado sem contagem",
+            description = "Com 'contar=false' a página não traz totalPages/totalElements e sim 'hasNext', evitando a consulta de contagem. " +
+            "Requisição exige bearer toke, ROLE=USER",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "contar", description = "false para não contar o total de registros", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Representa a página a ser retornada",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "0"))),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Representa o total de elementos por pagina",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5"))),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SliceDto.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= ADMIN",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping(params = {"contar=false", "!cursor"})
+    @PreAuthorize("hasAuthority('USER')")
+    public ResponseEntity<SliceDto> getAllEstacionamentosDoClienteSemContagem(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                             @PageableDefault(size = 5, sort = "dataEntrada",
+                                                                             direction = Sort.Direction.ASC) Pageable pageable) {
+        Slice<ClienteVagaProjection> projectionSlice = clienteVagaService.buscarTodosPorUsuarioIdSemContagem(userDetails.getId(), pageable);
+        return ResponseEntity.ok(mapperToSliceDto.record(() -> PageableMapper.toSliceDto(projectionSlice)));
+    }
+
+    @Operation(summary = "Localizar os registros de estacionamentos do cliente logado com paginação por cursor",
+            description = "Listagem ordenada por data de entrada que avança pelo cursor retornado em 'nextCursor' em vez do número da página. " +
+            "Envie 'cursor' vazio para a primeira página. Requisição exige bearer toke, ROLE=USER",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor retornado na página anterior (vazio na primeira)", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Representa o total de elementos por pagina",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5"))),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= ADMIN",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAuthority('USER')")
+    public ResponseEntity<CursorPageDto> getAllEstacionamentosDoClientePorCursor(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                                @RequestParam String cursor,
+                                                                                @RequestParam(defaultValue = "5") int size) {
+        int tamanho = limitarTamanho(size);
+        List<ClienteVagaCursorProjection> linhas = clienteVagaService.buscarPorCursorUsuarioId(userDetails.getId(), cursor, tamanho);
+        return ResponseEntity.ok(mapperToCursorDto.record(() -> PageableMapper.toCursorDto(linhas, tamanho)));
+    }
+
+    @Operation(summary = "Exportar o histórico de estacionamentos", description = "Exporta os registros com data de entrada no período " +
+            "[inicio, fim), opcionalmente de um único CPF, em NDJSON (um JSON por linha) ou CSV. A resposta é enviada à medida que " +
+            "os registros são lidos do banco. Requisição exige bearer toke, ROLE=ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "inicio", description = "Data/hora inicial (inclusiva), ex.: 2024-10-01T00:00:00", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "fim", description = "Data/hora final (exclusiva), ex.: 2024-11-01T00:00:00", required = true),
+                    @Parameter(in = ParameterIn.QUERY, name = "cpf", description = "N° do CPF para exportar apenas um cliente"),
+                    @Parameter(in = ParameterIn.QUERY, name = "formato", description = "ndjson ou csv",
+                            content = @Content(schema = @Schema(type = "string", defaultValue = "ndjson"))),
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação gerada",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "400", description = "Formato inválido ou período vazio",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+            })
+    @GetMapping("/exportacao")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public WebAsyncTask<Void> exportar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+                                       @RequestParam(required = false) String cpf,
+                                       @RequestParam(defaultValue = "ndjson") String formato,
+                                       HttpServletResponse response) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        exportacaoService.validarPeriodo(inicio, fim);
+
+        response.setContentType(formatoExportacao.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("estacionamentos." + formatoExportacao.getExtensao()).build().toString());
+        // O corpo é escrito depois que o método retorna, em outra thread; a consulta abre a própria transação.
+        // Tempo limite próprio: uma exportação grande passa do tempo padrão das respostas assíncronas.
+        return new WebAsyncTask<>(timeoutExportacao.toMillis(), () -> {
+            exportacaoService.exportar(inicio, fim, cpf, formatoExportacao, response.getOutputStream());
+            return null;
+        });
+    }
+
+    private static int limitarTamanho(int size) {
+        return Math.max(1, Math.min(size, TAMANHO_MAXIMO_CURSOR));
+    }
+
+    // Com Idempotency-Key a operação roda uma única vez por chave; as repetições recebem a resposta guardada
+    private EstacionamentoResponseDto executarUmaVez(String operacao, String chaveIdempotencia, String assinatura,
+                                                     Supplier<EstacionamentoResponseDto> execucao) {
+        if (chaveIdempotencia == null || chaveIdempotencia.isBlank()) {
+            return execucao.get();
+        }
+        return registroIdempotencia.executar(operacao + ":" + chaveIdempotencia, assinatura, execucao);
+    }
+
+    // Tempo das conversões entre DTO e entidade no check-in/check-out e nas listagens (métrica park.mapper, tag mapper)
+    private static Timer timerMapper(MeterRegistry meterRegistry, String mapper) {
+        return Timer.builder("park.mapper")
+                .tag("mapper", mapper)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,62 @@
+package com.LucasH.park_api.web.controller;
+
+import com.LucasH.park_api.service.tarifa.TabelaTarifa;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import com.LucasH.park_api.web.dto.TarifaDto;
+import com.LucasH.park_api.web.dto.mapper.TarifaMapper;
+import com.LucasH.park_api.web.exeception.ErrorMessage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Tarifas", description = "Consulta e troca da tabela de tarifa do estacionamento")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("api/v1/tarifas")
+public class TarifaController {
+
+    private final TarifaService tarifaService;
+
+    @Operation(summary = "Localizar a tarifa vigente", description = "Recurso para retornar a tabela de tarifa em uso. " +
+            "Requisição exige bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TarifaDto.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+    @GetMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TarifaDto> getTarifa() {
+        return ResponseEntity.ok(TarifaMapper.toDto(tarifaService.getTabela()));
+    }
+
+    @Operation(summary = "Trocar a tarifa vigente", description = "Recurso para substituir a tabela de tarifa sem reiniciar a aplicação. " +
+            "Vale para os check-outs seguintes e não é persistida: ao reiniciar volta a tarifa do application.properties. " +
+            "Requisição exige bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tarifa atualizada com sucesso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TarifaDto.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permitdo ao ROLE= USER",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "422", description = "Tabela de tarifa inválida",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+    @PutMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TarifaDto> atualizarTarifa(@RequestBody @Valid TarifaDto dto) {
+        TabelaTarifa tabela = TarifaMapper.toTabela(dto);
+        tarifaService.atualizar(tabela);
+        return ResponseEntity.ok(TarifaMapper.toDto(tabela));
+    }
+}
@@ -2,12 +2,18 @@ package com.LucasH.park_api.web.controller;
 
 import com.LucasH.park_api.entity.Vaga;
 import com.LucasH.park_api.service.VagaService;
+import com.LucasH.park_api.service.ocupacao.CanalOcupacao;
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import com.LucasH.park_api.util.EtagUtils;
+import com.LucasH.park_api.web.dto.OcupacaoDto;
 import com.LucasH.park_api.web.dto.UsuarioResponseDto;
 import com.LucasH.park_api.web.dto.VagaCreateDto;
+import com.LucasH.park_api.web.dto.VagaLoteCreateDto;
 import com.LucasH.park_api.web.dto.VagaResponseDto;
 import com.LucasH.park_api.web.dto.mapper.VagaMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,13 +24,19 @@ import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Response;
 import org.modelmapper.spi.ErrorMessage;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
 import java.net.URI;
+import java.util.List;
+
 @Tag(name = "Vagas")
 @RequiredArgsConstructor
 @RestController
@@ -32,6 +44,8 @@ import java.net.URI;
 public class VagaController {
 
     private final VagaService vagaService;
+    private final ContadorOcupacao contadorOcupacao;
+    private final CanalOcupacao canalOcupacao;
 
     @Operation(summary = "Cria um novo cliente", description = "Recurso para criar uma nova vaga." +
             " Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
@@ -58,6 +72,28 @@ public class VagaController {
         return ResponseEntity.created(location).build();
     }
 
+    @Operation(summary = "Cria vagas em lote", description = "Recurso para criar as vagas de faixas de códigos de uma vez " +
+            "(ex.: prefixo 'B-', inicio 1, fim 40 cria B-01 até B-40), todas LIVRE. Se algum código já existir nenhuma vaga é criada." +
+            " Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Vagas criadas com sucesso",
+                            content = @Content(mediaType = "application/json;charset=UTF-8",
+                                    array = @ArraySchema(schema = @Schema(implementation = VagaResponseDto.class)))),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado para ROLE='USER'",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "409", description = "Código de vaga já cadastrado ou repetido no lote",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "422", description = "Faixa inválida ou lote acima do limite de vagas",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+    @PostMapping("/lote")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<VagaResponseDto>> createLote(@RequestBody @Valid VagaLoteCreateDto dto) {
+        List<Vaga> vagas = vagaService.salvarEmLote(VagaMapper.toListVaga(dto));
+        return ResponseEntity.status(HttpStatus.CREATED).body(VagaMapper.toListDto(vagas));
+    }
+
     @Operation(summary = "Localizar uma vaga", description = "Recurso para retornar uma vaga pelo seu código." +
             " Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
             security = @SecurityRequirement(name = "security"),
@@ -71,8 +107,36 @@ public class VagaController {
             })
     @GetMapping("/{codigo}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<VagaResponseDto> getByCodigo(@PathVariable @Valid String codigo) {
+    public ResponseEntity<VagaResponseDto> getByCodigo(@PathVariable @Valid String codigo, WebRequest request) {
+        // A vaga vem do cache de segundo nível pelo código; com If-None-Match igual à versão o corpo nem é montado
         Vaga vaga = vagaService.buscarPorCodigo(codigo);
-        return ResponseEntity.ok(VagaMapper.toDto(vaga));
+        String etag = EtagUtils.versao(vaga.getId(), vaga.getDataModificacao());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(VagaMapper.toDto(vaga));
+    }
+
+    @Operation(summary = "Ocupação do estacionamento", description = "Recurso para retornar o total de vagas livres e ocupadas. " +
+            "Os totais ficam em memória e são conferidos periodicamente com o banco. Acesso público (painéis das entradas)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = "application/json;charset=UTF-8", schema = @Schema(implementation = OcupacaoDto.class)))
+            })
+    @GetMapping("/ocupacao")
+    public ResponseEntity<OcupacaoDto> getOcupacao() {
+        return ResponseEntity.ok(VagaMapper.toDto(contadorOcupacao.getOcupacao()));
+    }
+
+    @Operation(summary = "Eventos de ocupação do estacionamento", description = "Stream SSE para os painéis. O primeiro evento " +
+            "'ocupacao' traz os totais atuais; depois são enviados 'ocupacao' (totais, no máximo um por intervalo) e 'vaga' " +
+            "(código e novo status) a cada check-in/check-out confirmado. Acesso público (painéis das entradas)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos aberto",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+            })
+    @GetMapping(value = "/ocupacao/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> getEventosOcupacao() {
+        return canalOcupacao.assinar(contadorOcupacao.getOcupacao()).map(VagaMapper::toEvento);
     }
 }
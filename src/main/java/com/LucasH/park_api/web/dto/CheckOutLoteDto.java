@@ -0,0 +1,22 @@
+package com.LucasH.park_api.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckOutLoteDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotBlank String> recibos;
+}
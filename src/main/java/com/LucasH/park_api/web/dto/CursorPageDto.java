@@ -0,0 +1,21 @@
+package com.LucasH.park_api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Página da paginação por cursor: em vez do número da página traz o cursor da próxima,
+// que deve ser enviado no parâmetro "cursor" para continuar a listagem
+@Getter
+@Setter
+public class CursorPageDto {
+    private List content = new ArrayList<>();
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
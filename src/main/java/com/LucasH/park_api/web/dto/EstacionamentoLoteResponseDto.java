@@ -0,0 +1,22 @@
+package com.LucasH.park_api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EstacionamentoLoteResponseDto {
+
+    // Status HTTP que o item teria recebido na operação individual
+    private int status;
+
+    private String mensagem;
+
+    private EstacionamentoResponseDto estacionamento;
+}
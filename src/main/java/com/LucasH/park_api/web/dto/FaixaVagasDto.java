@@ -0,0 +1,46 @@
+package com.LucasH.park_api.web.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Faixa de códigos: prefixo "B-", inicio 1 e fim 40 geram B-01 até B-40.
+// O número é completado com zeros à esquerda até o código ter 4 caracteres.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FaixaVagasDto {
+
+    public static final int TAMANHO_CODIGO = 4;
+
+    @NotBlank
+    @Pattern(regexp = "[A-Z][A-Z-]{0,2}", message = "O prefixo deve ter de 1 a 3 caracteres (letras maiúsculas e '-')")
+    private String prefixo;
+    @NotNull
+    @PositiveOrZero
+    private Integer inicio;
+    @NotNull
+    @PositiveOrZero
+    private Integer fim;
+
+    @AssertTrue(message = "O fim da faixa deve ser maior ou igual ao inicio")
+    public boolean isFaixaCrescente() {
+        return inicio == null || fim == null || inicio <= fim;
+    }
+
+    @AssertTrue(message = "Os números da faixa não cabem no código de 4 caracteres junto com o prefixo")
+    public boolean isCodigoComQuatroCaracteres() {
+        return prefixo == null || fim == null || prefixo.length() + String.valueOf(fim).length() <= TAMANHO_CODIGO;
+    }
+
+    public int getQuantidade() {
+        return inicio == null || fim == null || fim < inicio ? 0 : fim - inicio + 1;
+    }
+}
@@ -0,0 +1,16 @@
+package com.LucasH.park_api.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OcupacaoDto {
+    private long livres;
+    private long ocupadas;
+    private long total;
+}
@@ -0,0 +1,29 @@
+package com.LucasH.park_api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Variante do PageableDto sem totalPages/totalElements: a página é lida com uma linha a mais
+// para saber se existe a próxima, sem o COUNT(*) da consulta paginada
+@Getter
+@Setter
+public class SliceDto {
+    private List content = new ArrayList<>();
+    private boolean first;
+
+    private boolean last;
+
+    @JsonProperty("page")
+    private int number;
+
+    private int size;
+
+    @JsonProperty("pageElements")
+    private int numberOfElements;
+
+    private boolean hasNext;
+}
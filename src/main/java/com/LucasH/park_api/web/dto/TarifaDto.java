@@ -0,0 +1,46 @@
+package com.LucasH.park_api.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarifaDto {
+
+    @NotEmpty
+    @Valid
+    private List<FaixaDto> faixas;
+
+    @NotNull
+    @Valid
+    private FaixaDto adicional;
+
+    @PositiveOrZero
+    private BigDecimal tetoDiario;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FaixaDto {
+        @NotNull
+        @Positive
+        private Long minutos;
+
+        @NotNull
+        @PositiveOrZero
+        private BigDecimal valor;
+    }
+}
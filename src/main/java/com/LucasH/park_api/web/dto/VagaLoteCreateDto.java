@@ -0,0 +1,32 @@
+package com.LucasH.park_api.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Todas as vagas do lote são cadastradas como LIVRE
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VagaLoteCreateDto {
+
+    public static final int MAXIMO_VAGAS = 2000;
+
+    @NotEmpty
+    @Size(max = 50)
+    @Valid
+    private List<FaixaVagasDto> faixas;
+
+    @AssertTrue(message = "O lote pode ter no máximo " + MAXIMO_VAGAS + " vagas")
+    public boolean isQuantidadeDentroDoLimite() {
+        return faixas == null || faixas.stream().mapToLong(FaixaVagasDto::getQuantidade).sum() <= MAXIMO_VAGAS;
+    }
+}
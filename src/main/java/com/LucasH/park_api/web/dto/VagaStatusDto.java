@@ -0,0 +1,15 @@
+package com.LucasH.park_api.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VagaStatusDto {
+    private String codigo;
+    private String status;
+}
@@ -5,16 +5,18 @@ import com.LucasH.park_api.web.dto.ClienteCreateDto;
 import com.LucasH.park_api.web.dto.ClienteResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClienteMapper {
 
     public static Cliente toCliente(ClienteCreateDto dto) {
-        return new ModelMapper().map(dto, Cliente.class);
+        Cliente cliente = new Cliente();
+        cliente.setNome(dto.getNome());
+        cliente.setCpf(dto.getCpf());
+        return cliente;
     }
 
     public static ClienteResponseDto toDto(Cliente cliente) {
-        return new ModelMapper().map(cliente, ClienteResponseDto.class);
+        return new ClienteResponseDto(cliente.getId(), cliente.getNome(), cliente.getCpf());
     }
 }
@@ -1,20 +1,86 @@
 package com.LucasH.park_api.web.dto.mapper;
 
+import com.LucasH.park_api.entity.Cliente;
 import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.exeception.EntityNotFoundException;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.service.ResultadoLote;
+import com.LucasH.park_api.service.sessao.SessaoAtiva;
 import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.LucasH.park_api.web.dto.EstacionamentoLoteResponseDto;
 import com.LucasH.park_api.web.dto.EstacionamentoResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClienteVagaMapper {
 
+    // clienteCpf -> cliente.cpf: o cliente é resolvido pelo CPF no check-in
     public static ClienteVaga toClienteVaga (EstacionamentoCreateDto dto) {
-        return new ModelMapper().map(dto, ClienteVaga.class);
+        ClienteVaga clienteVaga = new ClienteVaga();
+        clienteVaga.setPlaca(dto.getPlaca());
+        clienteVaga.setMarca(dto.getMarca());
+        clienteVaga.setModelo(dto.getModelo());
+        clienteVaga.setCor(dto.getCor());
+        Cliente cliente = new Cliente();
+        cliente.setCpf(dto.getClienteCpf());
+        clienteVaga.setCliente(cliente);
+        return clienteVaga;
+    }
+
+    public static List<ClienteVaga> toListClienteVaga(List<EstacionamentoCreateDto> dtos) {
+        return dtos.stream().map(ClienteVagaMapper::toClienteVaga).toList();
     }
 
     public static EstacionamentoResponseDto toDto (ClienteVaga clienteVaga) {
-        return new ModelMapper().map(clienteVaga, EstacionamentoResponseDto.class);
+        return new EstacionamentoResponseDto(
+                clienteVaga.getPlaca(),
+                clienteVaga.getMarca(),
+                clienteVaga.getModelo(),
+                clienteVaga.getCor(),
+                clienteVaga.getCliente() == null ? null : clienteVaga.getCliente().getCpf(),
+                clienteVaga.getRecibo(),
+                clienteVaga.getDataEntrada(),
+                clienteVaga.getDataSaida(),
+                clienteVaga.getVaga() == null ? null : clienteVaga.getVaga().getCodigo(),
+                clienteVaga.getValor(),
+                clienteVaga.getDesconto()
+        );
+    }
+
+    // Estacionamento em aberto: ainda sem data de saída, valor e desconto
+    public static EstacionamentoResponseDto toDto (SessaoAtiva sessao) {
+        return new EstacionamentoResponseDto(
+                sessao.placa(),
+                sessao.marca(),
+                sessao.modelo(),
+                sessao.cor(),
+                sessao.clienteCpf(),
+                sessao.recibo(),
+                sessao.dataEntrada(),
+                null,
+                sessao.vagaCodigo(),
+                null,
+                null
+        );
+    }
+
+    public static EstacionamentoLoteResponseDto toLoteDto(ResultadoLote resultado, HttpStatus statusSucesso) {
+        if (resultado.isSucesso()) {
+            return new EstacionamentoLoteResponseDto(statusSucesso.value(), null, toDto(resultado.clienteVaga()));
+        }
+        HttpStatus status = switch (resultado.erro()) {
+            case EntityNotFoundException ex -> HttpStatus.NOT_FOUND;
+            case VeiculoJaEstacionadoException ex -> HttpStatus.CONFLICT;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        return new EstacionamentoLoteResponseDto(status.value(), resultado.erro().getMessage(), null);
+    }
+
+    public static List<EstacionamentoLoteResponseDto> toListLoteDto(List<ResultadoLote> resultados, HttpStatus statusSucesso) {
+        return resultados.stream().map(resultado -> toLoteDto(resultado, statusSucesso)).toList();
     }
 }
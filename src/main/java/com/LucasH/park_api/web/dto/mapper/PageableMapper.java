@@ -1,15 +1,60 @@
 package com.LucasH.park_api.web.dto.mapper;
 
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import com.LucasH.park_api.util.CursorUtils;
+import com.LucasH.park_api.web.dto.CursorPageDto;
 import com.LucasH.park_api.web.dto.PageableDto;
+import com.LucasH.park_api.web.dto.SliceDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PageableMapper {
 
     public static PageableDto toDto(Page page) {
-        return new ModelMapper().map(page, PageableDto.class);
+        PageableDto dto = new PageableDto();
+        dto.setContent(new ArrayList<>(page.getContent()));
+        dto.setFirst(page.isFirst());
+        dto.setLast(page.isLast());
+        dto.setNumber(page.getNumber());
+        dto.setSize(page.getSize());
+        dto.setNumberOfElements(page.getNumberOfElements());
+        dto.setTotalPages(page.getTotalPages());
+        dto.setTotalElements(Math.toIntExact(page.getTotalElements()));
+        return dto;
+    }
+
+    public static SliceDto toSliceDto(Slice slice) {
+        SliceDto dto = new SliceDto();
+        dto.setContent(new ArrayList<>(slice.getContent()));
+        dto.setFirst(slice.isFirst());
+        dto.setLast(slice.isLast());
+        dto.setNumber(slice.getNumber());
+        dto.setSize(slice.getSize());
+        dto.setNumberOfElements(slice.getNumberOfElements());
+        dto.setHasNext(slice.hasNext());
+        return dto;
+    }
+
+    // Recebe até size + 1 linhas: a linha extra indica que existe uma próxima página e não é retornada
+    public static CursorPageDto toCursorDto(List<ClienteVagaCursorProjection> linhas, int size) {
+        boolean hasNext = linhas.size() > size;
+        List<ClienteVagaCursorProjection> content = hasNext ? linhas.subList(0, size) : linhas;
+
+        CursorPageDto dto = new CursorPageDto();
+        dto.setContent(new ArrayList<>(content));
+        dto.setSize(size);
+        dto.setNumberOfElements(content.size());
+        dto.setHasNext(hasNext);
+        if (hasNext) {
+            ClienteVagaCursorProjection ultima = content.get(content.size() - 1);
+            dto.setNextCursor(CursorUtils.codificar(ultima.getDataEntrada(), ultima.getId()));
+        }
+        return dto;
     }
 }
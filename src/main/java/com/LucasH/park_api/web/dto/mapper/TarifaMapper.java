@@ -0,0 +1,37 @@
+package com.LucasH.park_api.web.dto.mapper;
+
+import com.LucasH.park_api.service.tarifa.TabelaTarifa;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import com.LucasH.park_api.web.dto.TarifaDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TarifaMapper {
+
+    public static TabelaTarifa toTabela(TarifaDto dto) {
+        List<TarifaDto.FaixaDto> faixas = dto.getFaixas();
+        long[] minutos = new long[faixas.size()];
+        long[] centavos = new long[faixas.size()];
+        for (int i = 0; i < faixas.size(); i++) {
+            minutos[i] = faixas.get(i).getMinutos();
+            centavos[i] = TarifaService.emCentavos(faixas.get(i).getValor());
+        }
+        long teto = dto.getTetoDiario() == null ? 0 : TarifaService.emCentavos(dto.getTetoDiario());
+        return new TabelaTarifa(minutos, centavos, dto.getAdicional().getMinutos(),
+                TarifaService.emCentavos(dto.getAdicional().getValor()), teto);
+    }
+
+    public static TarifaDto toDto(TabelaTarifa tabela) {
+        List<TarifaDto.FaixaDto> faixas = new ArrayList<>(tabela.getTotalFaixas());
+        for (int i = 0; i < tabela.getTotalFaixas(); i++) {
+            faixas.add(new TarifaDto.FaixaDto(tabela.getMinutosFaixa(i), TarifaService.emReais(tabela.getCentavosFaixa(i))));
+        }
+        return new TarifaDto(faixas,
+                new TarifaDto.FaixaDto(tabela.getMinutosAdicional(), TarifaService.emReais(tabela.getCentavosAdicional())),
+                TarifaService.emReais(tabela.getTetoDiarioCentavos()));
+    }
+}
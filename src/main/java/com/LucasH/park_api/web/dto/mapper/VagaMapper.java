@@ -1,20 +1,77 @@
 package com.LucasH.park_api.web.dto.mapper;
 
 import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.service.ocupacao.EventoOcupacao;
+import com.LucasH.park_api.service.ocupacao.MudancaVaga;
+import com.LucasH.park_api.service.ocupacao.Ocupacao;
+import com.LucasH.park_api.web.dto.FaixaVagasDto;
+import com.LucasH.park_api.web.dto.OcupacaoDto;
 import com.LucasH.park_api.web.dto.VagaCreateDto;
+import com.LucasH.park_api.web.dto.VagaLoteCreateDto;
 import com.LucasH.park_api.web.dto.VagaResponseDto;
+import com.LucasH.park_api.web.dto.VagaStatusDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class VagaMapper {
 
     public static Vaga toVaga(VagaCreateDto dto) {
-        return new ModelMapper().map(dto, Vaga.class);
+        Vaga vaga = new Vaga();
+        vaga.setCodigo(dto.getCodigo());
+        vaga.setStatus(toStatus(dto.getStatus()));
+        return vaga;
+    }
+
+    // Uma vaga LIVRE para cada número de cada faixa, ex.: B- de 1 a 3 -> B-01, B-02, B-03
+    public static List<Vaga> toListVaga(VagaLoteCreateDto dto) {
+        List<Vaga> vagas = new ArrayList<>();
+        for (FaixaVagasDto faixa : dto.getFaixas()) {
+            String formato = faixa.getPrefixo() + "%0" + (FaixaVagasDto.TAMANHO_CODIGO - faixa.getPrefixo().length()) + "d";
+            for (int numero = faixa.getInicio(); numero <= faixa.getFim(); numero++) {
+                Vaga vaga = new Vaga();
+                vaga.setCodigo(String.format(formato, numero));
+                vaga.setStatus(Vaga.StatusVaga.LIVRE);
+                vagas.add(vaga);
+            }
+        }
+        return vagas;
+    }
+
+    public static List<VagaResponseDto> toListDto(List<Vaga> vagas) {
+        return vagas.stream().map(VagaMapper::toDto).toList();
     }
 
     public static VagaResponseDto toDto(Vaga vaga) {
-        return new ModelMapper().map(vaga, VagaResponseDto.class);
+        return new VagaResponseDto(vaga.getId(), vaga.getCodigo(), vaga.getStatus() == null ? null : vaga.getStatus().name());
+    }
+
+    public static OcupacaoDto toDto(Ocupacao ocupacao) {
+        return new OcupacaoDto(ocupacao.livres(), ocupacao.ocupadas(), ocupacao.total());
+    }
+
+    public static ServerSentEvent<Object> toEvento(EventoOcupacao evento) {
+        return switch (evento) {
+            case Ocupacao ocupacao -> ServerSentEvent.<Object>builder(toDto(ocupacao)).event("ocupacao").build();
+            case MudancaVaga mudanca -> ServerSentEvent.<Object>builder(
+                    new VagaStatusDto(mudanca.codigo(), mudanca.status().name())).event("vaga").build();
+            case EventoOcupacao.KeepAlive keepAlive -> ServerSentEvent.<Object>builder().comment("keep-alive").build();
+        };
+    }
+
+    // Status que não existe no enum vira null, como na conversão feita antes pelo ModelMapper
+    private static Vaga.StatusVaga toStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return Vaga.StatusVaga.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
     }
 }
@@ -27,6 +27,15 @@ public class ApiExeceptionHandler {
     }
 
 
+    @ExceptionHandler(TarifaInvalidaException.class)
+    public ResponseEntity<ErrorMessage> tarifaInvalidaException(TarifaInvalidaException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage()));
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorMessage> accessDeniedException(AccessDeniedException ex, HttpServletRequest request){
         log.error("Api Error - ", ex);
@@ -38,7 +47,8 @@ public class ApiExeceptionHandler {
 
 
 
-    @ExceptionHandler({UsernameUniqueViolationExeception.class, CpfUniqueViolationExeception.class, CodigoUniqueViolationExeception.class})
+    @ExceptionHandler({UsernameUniqueViolationExeception.class, CpfUniqueViolationExeception.class, CodigoUniqueViolationExeception.class,
+            VeiculoJaEstacionadoException.class})
     public ResponseEntity<ErrorMessage> uniqueViolationExeception(RuntimeException ex,
                                                                         HttpServletRequest request){
         log.error("Api Error - ", ex);
@@ -48,6 +58,24 @@ public class ApiExeceptionHandler {
                 .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
     }
 
+    @ExceptionHandler(IdempotenciaConflitoException.class)
+    public ResponseEntity<ErrorMessage> idempotenciaConflitoException(IdempotenciaConflitoException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotenciaIndisponivelException.class)
+    public ResponseEntity<ErrorMessage> idempotenciaIndisponivelException(IdempotenciaIndisponivelException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorMessage> entityNotFoundException(EntityNotFoundException ex,
                                                                         HttpServletRequest request
@@ -59,6 +87,17 @@ public class ApiExeceptionHandler {
                 .body(new ErrorMessage(request, HttpStatus.NOT_FOUND, ex.getMessage()));
     }
 
+    @ExceptionHandler({CursorInvalidoException.class, ExportacaoInvalidaException.class})
+    public ResponseEntity<ErrorMessage> cursorInvalidoException(RuntimeException ex,
+                                                                HttpServletRequest request
+    ){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+
     @ExceptionHandler(PasswordInvalidException.class)
     public ResponseEntity<ErrorMessage> passwordInvalidException(PasswordInvalidException ex,
                                                                 HttpServletRequest request
@@ -0,0 +1,74 @@
+-- Esquema inicial, equivalente ao que o Hibernate gerava com ddl-auto=update.
+-- Bancos que já existiam antes das migrações recebem esta versão como baseline e não a executam.
+
+create table usuarios (
+    id               bigint generated by default as identity,
+    username         varchar(100) not null,
+    password         varchar(200) not null,
+    role             varchar(30)  not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criando_por      varchar(255),
+    modificado_por   varchar(255),
+    constraint pk_usuarios primary key (id),
+    constraint uk_usuarios_username unique (username),
+    constraint ck_usuarios_role check (role in ('ADMIN', 'USER'))
+);
+
+create table clientes (
+    id               bigint generated by default as identity,
+    nome             varchar(100) not null,
+    cpf              varchar(11)  not null,
+    id_usuario       bigint       not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criando_por      varchar(255),
+    modificado_por   varchar(255),
+    constraint pk_clientes primary key (id),
+    constraint uk_clientes_cpf unique (cpf),
+    constraint uk_clientes_usuario unique (id_usuario),
+    constraint fk_clientes_usuario foreign key (id_usuario) references usuarios (id)
+);
+
+create table vagas (
+    id               bigint generated by default as identity,
+    codigo           varchar(4)   not null,
+    status           varchar(255) not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criando_por      varchar(255),
+    modificado_por   varchar(255),
+    constraint pk_vagas primary key (id),
+    constraint uk_vagas_codigo unique (codigo),
+    constraint ck_vagas_status check (status in ('LIVRE', 'OCUPADA'))
+);
+
+create table cliente_tem_vagas (
+    id               bigint generated by default as identity,
+    numero_recibo    varchar(15)  not null,
+    placa            varchar(8)   not null,
+    marca            varchar(45)  not null,
+    modelo           varchar(45)  not null,
+    cor              varchar(45)  not null,
+    data_entrada     timestamp(6) not null,
+    data_saida       timestamp(6),
+    valor            decimal(7, 2),
+    desconto         decimal(7, 2),
+    id_cliente       bigint       not null,
+    id_vaga          bigint       not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criando_por      varchar(255),
+    modificado_por   varchar(255),
+    constraint pk_cliente_tem_vagas primary key (id),
+    constraint uk_cliente_tem_vagas_recibo unique (numero_recibo),
+    constraint fk_cliente_tem_vagas_cliente foreign key (id_cliente) references clientes (id),
+    constraint fk_cliente_tem_vagas_vaga foreign key (id_vaga) references vagas (id)
+);
+
+create table clientes_contadores (
+    id_cliente                bigint not null,
+    estacionamentos_completos bigint not null,
+    constraint pk_clientes_contadores primary key (id_cliente),
+    constraint fk_clientes_contadores_cliente foreign key (id_cliente) references clientes (id)
+);
@@ -0,0 +1,42 @@
+-- Arquivo dos estacionamentos encerrados há mais tempo. O job de arquivamento move as linhas de
+-- cliente_tem_vagas para cá em lotes, mantendo a tabela usada no check-in/check-out pequena.
+-- O id é o mesmo da tabela de origem (sem identity).
+
+create table cliente_tem_vagas_arquivo (
+    id               bigint       not null,
+    numero_recibo    varchar(15)  not null,
+    placa            varchar(8)   not null,
+    marca            varchar(45)  not null,
+    modelo           varchar(45)  not null,
+    cor              varchar(45)  not null,
+    data_entrada     timestamp(6) not null,
+    data_saida       timestamp(6) not null,
+    valor            decimal(7, 2),
+    desconto         decimal(7, 2),
+    id_cliente       bigint       not null,
+    id_vaga          bigint       not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criando_por      varchar(255),
+    modificado_por   varchar(255),
+    constraint pk_cliente_tem_vagas_arquivo primary key (id),
+    constraint fk_cliente_tem_vagas_arquivo_cliente foreign key (id_cliente) references clientes (id),
+    constraint fk_cliente_tem_vagas_arquivo_vaga foreign key (id_vaga) references vagas (id)
+);
+
+create index idx_cliente_tem_vagas_arquivo_cliente_entrada on cliente_tem_vagas_arquivo (id_cliente, data_entrada, id);
+create index idx_cliente_tem_vagas_arquivo_entrada on cliente_tem_vagas_arquivo (data_entrada, id);
+
+-- Seleção das linhas a arquivar (data_saida < limite)
+create index idx_cliente_tem_vagas_saida on cliente_tem_vagas (data_saida);
+
+-- Histórico completo (tabela principal + arquivo), lido pelas consultas de histórico.
+-- Os filtros são aplicados dentro de cada parte do union all, usando os índices de cada tabela.
+create view cliente_tem_vagas_historico as
+select id, numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto,
+       id_cliente, id_vaga, data_criacao, data_modificacao, criando_por, modificado_por
+from cliente_tem_vagas
+union all
+select id, numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto,
+       id_cliente, id_vaga, data_criacao, data_modificacao, criando_por, modificado_por
+from cliente_tem_vagas_arquivo;
@@ -0,0 +1,8 @@
+-- Contador de fidelidade para todo cliente que ainda não tem um, calculado a partir do histórico
+-- (tabela principal + arquivo). Depois desta migração o check-out não conta mais o histórico:
+-- o cadastro cria o contador dos clientes novos.
+insert into clientes_contadores (id_cliente, estacionamentos_completos)
+select c.id,
+       (select count(*) from cliente_tem_vagas_historico cv where cv.id_cliente = c.id and cv.data_saida is not null)
+from clientes c
+where not exists (select 1 from clientes_contadores cc where cc.id_cliente = c.id);
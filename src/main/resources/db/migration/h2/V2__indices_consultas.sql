@@ -0,0 +1,12 @@
+-- Mesmos índices da migração do Postgres (db/migration/postgresql) com os mesmos nomes.
+-- O H2 não tem índice parcial: a condição vira a segunda coluna do índice.
+
+create index if not exists idx_cliente_tem_vagas_cliente_entrada on cliente_tem_vagas (id_cliente, data_entrada, id);
+
+create index if not exists idx_cliente_tem_vagas_entrada on cliente_tem_vagas (data_entrada, id);
+
+create index if not exists idx_cliente_tem_vagas_cliente_concluidos on cliente_tem_vagas (id_cliente, data_saida);
+
+create index if not exists idx_cliente_tem_vagas_vaga on cliente_tem_vagas (id_vaga);
+
+create index if not exists idx_vagas_livres on vagas (status, id);
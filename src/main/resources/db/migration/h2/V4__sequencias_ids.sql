@@ -0,0 +1,8 @@
+-- Sequências para os ids de usuarios, clientes, vagas e cliente_tem_vagas (ver postgresql/V4).
+-- O H2 é o banco dos testes, criado vazio; os scripts dos testes inserem ids fixos (10, 100, 1001...),
+-- então as sequências começam acima deles para os ids gerados pela aplicação nunca colidirem.
+
+create sequence usuarios_seq start with 1000000 increment by 50;
+create sequence clientes_seq start with 1000000 increment by 50;
+create sequence vagas_seq start with 1000000 increment by 50;
+create sequence cliente_tem_vagas_seq start with 1000000 increment by 50;
@@ -0,0 +1,3 @@
+-- Mesmo índice de postgresql/V5. O H2 não tem índice parcial: a condição vira a segunda coluna do índice.
+
+create index if not exists idx_cliente_tem_vagas_placa_aberta on cliente_tem_vagas (placa, data_saida);
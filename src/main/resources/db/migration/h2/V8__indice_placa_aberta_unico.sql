@@ -0,0 +1,7 @@
+-- Mesma restrição de postgresql/V8. O H2 não tem índice parcial: uma coluna gerada guarda a placa
+-- só enquanto o estacionamento está em aberto (null depois do check-out) e o índice único é sobre ela;
+-- o índice único aceita vários null. O índice (placa, data_saida) da V5 continua atendendo as consultas.
+
+alter table cliente_tem_vagas add column placa_aberta varchar(8)
+    generated always as (case when data_saida is null then placa end);
+create unique index uk_cliente_tem_vagas_placa_aberta on cliente_tem_vagas (placa_aberta);
@@ -0,0 +1,24 @@
+-- Índices das consultas mais frequentes de ClienteVagaRepository e VagaRepository.
+-- "if not exists" porque os dois primeiros já podem ter sido criados pelo Hibernate (ddl-auto=update).
+--
+-- O check-out (numero_recibo = ? and data_saida is null) já é atendido pelo índice único de
+-- numero_recibo: a busca devolve no máximo uma linha, um índice parcial não reduziria o acesso.
+
+-- Histórico do cliente ordenado por data de entrada (Page/Slice por CPF ou usuário e paginação por cursor)
+create index if not exists idx_cliente_tem_vagas_cliente_entrada on cliente_tem_vagas (id_cliente, data_entrada, id);
+
+-- Exportação por período sem CPF
+create index if not exists idx_cliente_tem_vagas_entrada on cliente_tem_vagas (data_entrada, id);
+
+-- Total de estacionamentos concluídos por cliente (desconto de fidelidade e carga dos contadores).
+-- Parcial: guarda só as sessões encerradas, e a contagem é feita apenas pelo índice.
+create index if not exists idx_cliente_tem_vagas_cliente_concluidos on cliente_tem_vagas (id_cliente)
+    where data_saida is not null;
+
+-- Chave estrangeira da vaga (o Postgres não indexa FKs sozinho)
+create index if not exists idx_cliente_tem_vagas_vaga on cliente_tem_vagas (id_vaga);
+
+-- Vagas livres em ordem de id (alocação no check-in com FOR UPDATE / SKIP LOCKED).
+-- Parcial: o índice só contém as vagas LIVRE, que são as únicas procuradas.
+create index if not exists idx_vagas_livres on vagas (id)
+    where status = 'LIVRE';
@@ -0,0 +1,23 @@
+-- Sequências para os ids de usuarios, clientes, vagas e cliente_tem_vagas (GenerationType.SEQUENCE).
+-- Com o identity o Hibernate precisa do id de cada insert na hora e não agrupa os inserts em batch;
+-- com a sequência ele reserva 50 ids por chamada (otimizador pooled) e envia os inserts em lote.
+-- O incremento tem que ser igual ao allocationSize das entidades.
+--
+-- O pooled trata o valor lido da sequência como o fim da faixa reservada (valor - 49 até valor),
+-- por isso a sequência começa 50 acima do maior id já gravado.
+-- As colunas continuam identity para os inserts feitos direto no banco.
+
+create sequence usuarios_seq increment by 50;
+select setval('usuarios_seq', (select coalesce(max(id), 0) from usuarios) + 50, false);
+
+create sequence clientes_seq increment by 50;
+select setval('clientes_seq', (select coalesce(max(id), 0) from clientes) + 50, false);
+
+create sequence vagas_seq increment by 50;
+select setval('vagas_seq', (select coalesce(max(id), 0) from vagas) + 50, false);
+
+-- O arquivo guarda os mesmos ids da tabela principal, então os dois entram no maior id
+create sequence cliente_tem_vagas_seq increment by 50;
+select setval('cliente_tem_vagas_seq',
+              greatest((select coalesce(max(id), 0) from cliente_tem_vagas),
+                       (select coalesce(max(id), 0) from cliente_tem_vagas_arquivo)) + 50, false);
@@ -0,0 +1,5 @@
+-- Estacionamento em aberto por placa: consulta por placa e recusa de check-in de veículo já
+-- estacionado com park.sessoes.ativas=banco, e carga do registro em memória na subida
+-- (data_saida is null). Só as linhas em aberto entram no índice.
+create index if not exists idx_cliente_tem_vagas_placa_aberta on cliente_tem_vagas (placa)
+    where data_saida is null;
@@ -0,0 +1,21 @@
+-- As colunas id ficaram identity depois da V4, com um gerador próprio que não sabe das faixas
+-- reservadas pelo Hibernate nas sequências *_seq: um insert direto no banco (sem id) recebia um
+-- id baixo do identity, que mais tarde o Hibernate entregava de novo para outra linha.
+-- Agora o identity sai e o padrão da coluna passa a ser a própria sequência. Um nextval direto
+-- devolve o fim de uma faixa que nenhuma instância recebeu, então não colide com o pooled.
+
+alter table usuarios alter column id drop identity if exists;
+alter table usuarios alter column id set default nextval('usuarios_seq');
+alter sequence usuarios_seq owned by usuarios.id;
+
+alter table clientes alter column id drop identity if exists;
+alter table clientes alter column id set default nextval('clientes_seq');
+alter sequence clientes_seq owned by clientes.id;
+
+alter table vagas alter column id drop identity if exists;
+alter table vagas alter column id set default nextval('vagas_seq');
+alter sequence vagas_seq owned by vagas.id;
+
+alter table cliente_tem_vagas alter column id drop identity if exists;
+alter table cliente_tem_vagas alter column id set default nextval('cliente_tem_vagas_seq');
+alter sequence cliente_tem_vagas_seq owned by cliente_tem_vagas.id;
@@ -0,0 +1,11 @@
+-- Placa estacionada uma única vez: o índice parcial da V5 passa a ser único. Dois check-ins
+-- simultâneos do mesmo veículo (várias instâncias com park.sessoes.ativas=banco, ou um insert fora
+-- da API) não deixam mais dois estacionamentos em aberto; o segundo insert é recusado pelo banco
+-- e a API responde 409 (VeiculoJaEstacionadoException).
+--
+-- Se a migração falhar, há placas com mais de um estacionamento em aberto; encerrar os excedentes antes:
+--   select placa, count(*) from cliente_tem_vagas where data_saida is null group by placa having count(*) > 1;
+
+drop index if exists idx_cliente_tem_vagas_placa_aberta;
+create unique index uk_cliente_tem_vagas_placa_aberta on cliente_tem_vagas (placa)
+    where data_saida is null;
@@ -0,0 +1,74 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.job.ArquivamentoEstacionamentos;
+import com.LucasH.park_api.web.dto.PageableDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"park.arquivamento.habilitado=true", "park.arquivamento.tamanho-lote=1", "park.arquivamento.pausa-entre-lotes=0ms"})
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(statements = "update cliente_tem_vagas set data_saida = localtimestamp - interval '1' hour, valor = 11.25, desconto = 0 " +
+        "where numero_recibo in ('20241001-141519', '20241001-151519', '20241001-145062')",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ArquivamentoIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    ArquivamentoEstacionamentos arquivamento;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void arquivar_EncerradosAntesDoLimite_MoverEmLotesMantendoAbertos() {
+        long arquivados = arquivamento.arquivar(LocalDateTime.now());
+
+        Assertions.assertThat(arquivados).isEqualTo(3);
+        Assertions.assertThat(contar("cliente_tem_vagas")).isEqualTo(1);
+        Assertions.assertThat(contar("cliente_tem_vagas_arquivo")).isEqualTo(3);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "select numero_recibo from cliente_tem_vagas", String.class)).isEqualTo("20241001-161019");
+    }
+
+    @Test
+    public void arquivar_EncerradosDepoisDoLimite_NaoMoverNenhumRegistro() {
+        long arquivados = arquivamento.arquivar(LocalDateTime.now().minusDays(1));
+
+        Assertions.assertThat(arquivados).isZero();
+        Assertions.assertThat(contar("cliente_tem_vagas")).isEqualTo(4);
+        Assertions.assertThat(contar("cliente_tem_vagas_arquivo")).isZero();
+    }
+
+    @Test
+    public void buscarEstacionamentos_PorClienteCpfAposArquivar_RetornarRegistrosArquivadosEAtuais() {
+        arquivamento.arquivar(LocalDateTime.now());
+
+        PageableDto responseBody = testClient
+                .get()
+                .uri("api/v1/estacionamentos/cpf/{cpf}", "38352600060")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PageableDto.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getContent()).size().isEqualTo(2);
+        Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(2);
+    }
+
+    private long contar(String tabela) {
+        return jdbcTemplate.queryForObject("select count(*) from " + tabela, Long.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.alocacao.BitmapVagasLivres;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BitmapVagasLivresTest {
+
+    @Test
+    public void reservar_ComVagasLivres_RetornarCadaVagaUmaUnicaVez() throws Exception {
+        BitmapVagasLivres bitmap = new BitmapVagasLivres();
+        int totalVagas = 5_000;
+        for (long id = 1; id <= totalVagas; id++) {
+            bitmap.registrar(id, true);
+        }
+
+        int threads = 16;
+        Set<Long> reservadas = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicadas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                Optional<Long> vaga;
+                while ((vaga = bitmap.reservar()).isPresent()) {
+                    if (!reservadas.add(vaga.get())) {
+                        duplicadas.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(duplicadas.get()).isZero();
+        Assertions.assertThat(reservadas).hasSize(totalVagas);
+        Assertions.assertThat(bitmap.reservar()).isEmpty();
+    }
+
+    @Test
+    public void liberar_VagaReservada_RetornarVagaParaReserva() {
+        BitmapVagasLivres bitmap = new BitmapVagasLivres();
+        bitmap.registrar(10L, true);
+        bitmap.registrar(20L, false);
+
+        Assertions.assertThat(bitmap.reservar()).contains(10L);
+        Assertions.assertThat(bitmap.reservar()).isEmpty();
+
+        bitmap.liberar(20L);
+        Assertions.assertThat(bitmap.reservar()).contains(20L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.Cliente;
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.exeception.EntityNotFoundException;
+import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.service.ClienteService;
+import com.LucasH.park_api.service.VagaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class CacheNaturalIdIT {
+
+    @Autowired
+    ClienteService clienteService;
+
+    @Autowired
+    VagaService vagaService;
+
+    @Autowired
+    VagaRepository vagaRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    // Os dados do @Sql entram direto no banco: regiões limpas para nenhum teste enxergar linhas de outro
+    @BeforeEach
+    public void limparCache() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void buscarPorCpf_SegundaBusca_RetornarClienteDoCacheSemConsultarOBanco() {
+        Cliente primeira = clienteService.buscarPorCpf("38352600060");
+
+        // Diferenças medidas só em volta da segunda busca: as regiões do Ehcache são compartilhadas
+        // entre os contextos de teste, então a primeira busca pode ou não encontrar o cliente no cache
+        long consultasAntes = statistics.getNaturalIdQueryExecutionCount();
+        long acertosNaturalIdAntes = statistics.getNaturalIdCacheHitCount();
+        long acertosAntes = statistics.getSecondLevelCacheHitCount();
+        Cliente segunda = clienteService.buscarPorCpf("38352600060");
+
+        Assertions.assertThat(segunda.getId()).isEqualTo(primeira.getId()).isEqualTo(10L);
+        Assertions.assertThat(statistics.getNaturalIdQueryExecutionCount() - consultasAntes).isZero();
+        Assertions.assertThat(statistics.getNaturalIdCacheHitCount() - acertosNaturalIdAntes).isGreaterThanOrEqualTo(1);
+        Assertions.assertThat(statistics.getSecondLevelCacheHitCount() - acertosAntes).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void buscarPorCpf_CpfNaoCadastrado_LancarEntityNotFoundException() {
+        Assertions.assertThatThrownBy(() -> clienteService.buscarPorCpf("07021758074"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void buscarPorCodigo_AposAlterarStatus_RetornarVagaAtualizada() {
+        Vaga vaga = vagaService.buscarPorCodigo("A-04");
+        Assertions.assertThat(vaga.getStatus()).isEqualTo(Vaga.StatusVaga.LIVRE);
+
+        transactionTemplate.executeWithoutResult(status ->
+                vagaRepository.findById(vaga.getId()).orElseThrow().setStatus(Vaga.StatusVaga.OCUPADA));
+
+        Assertions.assertThat(vagaService.buscarPorCodigo("A-04").getStatus()).isEqualTo(Vaga.StatusVaga.OCUPADA);
+    }
+
+    @Test
+    public void buscarPorCodigo_VagaSalvaPeloServico_RetornarVagaNova() {
+        Vaga nova = new Vaga();
+        nova.setCodigo("B-01");
+        nova.setStatus(Vaga.StatusVaga.LIVRE);
+        vagaService.salvar(nova);
+
+        Vaga encontrada = vagaService.buscarPorCodigo("B-01");
+
+        Assertions.assertThat(encontrada.getId()).isEqualTo(nova.getId());
+        Assertions.assertThat(encontrada.getStatus()).isEqualTo(Vaga.StatusVaga.LIVRE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.ocupacao.CanalOcupacao;
+import com.LucasH.park_api.service.ocupacao.EventoOcupacao;
+import com.LucasH.park_api.service.ocupacao.MudancaVaga;
+import com.LucasH.park_api.service.ocupacao.Ocupacao;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.LIVRE;
+import static com.LucasH.park_api.entity.Vaga.StatusVaga.OCUPADA;
+
+public class CanalOcupacaoTest {
+
+    @Test
+    public void assinar_ComRajadaDeMudancas_RetornarOcupacaoAtualEUltimoStatusDeCadaVaga() throws Exception {
+        CanalOcupacao canal = new CanalOcupacao(Duration.ofMillis(200), 1000);
+        List<EventoOcupacao> recebidos = new CopyOnWriteArrayList<>();
+        Disposable assinatura = canal.assinar(new Ocupacao(3, 3)).subscribe(recebidos::add);
+        try {
+            aguardar(() -> !recebidos.isEmpty());
+            for (int i = 0; i < 100; i++) {
+                boolean ocupar = i % 2 == 0;
+                canal.publicar(new Ocupacao(ocupar ? 2 : 3, ocupar ? 4 : 3),
+                        List.of(new MudancaVaga("A-01", ocupar ? OCUPADA : LIVRE)));
+            }
+            canal.publicar(new Ocupacao(2, 4), List.of(new MudancaVaga("A-02", OCUPADA)));
+
+            aguardar(() -> recebidos.contains(new MudancaVaga("A-02", OCUPADA)) && new Ocupacao(2, 4).equals(ultimaOcupacao(recebidos)));
+
+            Assertions.assertThat(recebidos.getFirst()).isEqualTo(new Ocupacao(3, 3));
+            List<MudancaVaga> mudancasA01 = recebidos.stream()
+                    .filter(evento -> evento instanceof MudancaVaga mudanca && mudanca.codigo().equals("A-01"))
+                    .map(MudancaVaga.class::cast)
+                    .toList();
+            // As 100 mudanças chegam agrupadas por intervalo, com o último status de cada grupo
+            Assertions.assertThat(mudancasA01).hasSizeLessThan(100);
+            Assertions.assertThat(mudancasA01.getLast().status()).isEqualTo(LIVRE);
+        } finally {
+            assinatura.dispose();
+        }
+    }
+
+    @Test
+    public void publicar_SemAssinantes_NaoFalhar() {
+        CanalOcupacao canal = new CanalOcupacao(Duration.ofMillis(200), 1000);
+
+        canal.publicar(new Ocupacao(1, 0), List.of(new MudancaVaga("A-01", LIVRE)));
+
+        Assertions.assertThat(canal.getTotalAssinantes()).isZero();
+    }
+
+    private static Ocupacao ultimaOcupacao(List<EventoOcupacao> eventos) {
+        return eventos.stream().filter(Ocupacao.class::isInstance).map(Ocupacao.class::cast).reduce((a, b) -> b).orElse(null);
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condicao.getAsBoolean()) {
+            Assertions.assertThat(System.nanoTime()).as("tempo de espera esgotado").isLessThan(limite);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.alocacao.AlocadorVagasEmMemoria;
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Teste de carga do ciclo check-in + check-out pela API, com threads de plataforma no servidor.
+// A concorrência (400 requisições simultâneas) fica bem acima das 200 threads do Tomcat, e cada
+// comando SQL espera LATENCIA_BANCO_MS antes de executar, simulando a ida e volta até um banco
+// remoto: é nessa espera bloqueante que as threads de plataforma se esgotam e as virtual threads não.
+// O pool de conexões é aumentado para a concorrência do teste, senão ele seria o gargalo nos dois modos.
+// Cada requisição simultânea usa o seu próprio cliente do estacionamento, assim o lock do contador de
+// fidelidade não serializa as requisições.
+// A vazão e o p99 de cada modo vão para o log; quando CargaCheckInCheckOutVirtualThreadsIT roda na
+// mesma JVM, a segunda classe a rodar compara as duas e exige maior vazão com virtual threads.
+// Fica fora da execução normal dos testes (tag "carga"); para rodar: mvn test -Pcarga
+@Slf4j
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(CargaCheckInCheckOutIT.LatenciaBanco.class)
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + CargaCheckInCheckOutIT.CONCORRENCIA,
+        "spring.datasource.hikari.connection-timeout=30000"
+})
+@Sql(scripts = "/sql/carga/carga-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/carga/carga-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class CargaCheckInCheckOutIT {
+
+    static final int CONCORRENCIA = 400;
+    private static final int CICLOS_POR_CLIENTE = 5;
+    private static final long LATENCIA_BANCO_MS = 20;
+    private static final String SENHA_123456 = "$2a$12$Y3ypwyTD5Czhu7/sWaCU3uNa9VWk9vjIg6pTDelK1tDFdj/M8NIM6";
+
+    // Resultado de cada modo (true = virtual threads) para a comparação entre as duas classes
+    private static final Map<Boolean, Resultado> RESULTADOS = new ConcurrentHashMap<>();
+
+    @LocalServerPort
+    int porta;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreads;
+
+    @Value("${server.tomcat.threads.max:200}")
+    int threadsTomcat;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    LatenciaBanco latenciaBanco;
+
+    @Autowired
+    ObjectProvider<AlocadorVagasEmMemoria> alocadorEmMemoria;
+
+    @Autowired
+    ContadorOcupacao contadorOcupacao;
+
+    @BeforeEach
+    public void criarClientes() {
+        List<Object[]> usuarios = new ArrayList<>();
+        List<Object[]> clientes = new ArrayList<>();
+        for (int i = 0; i < CONCORRENCIA; i++) {
+            long id = 1000 + i;
+            usuarios.add(new Object[]{id, String.format("carga%03d@gmail.com", i), SENHA_123456});
+            clientes.add(new Object[]{id, "Cliente Carga " + i, cpf(i), id});
+        }
+        jdbcTemplate.batchUpdate("insert into USUARIOS (id, username, password, role) values (?, ?, ?, 'USER')", usuarios);
+        jdbcTemplate.batchUpdate("insert into CLIENTES (id, nome, cpf, id_usuario) values (?, ?, ?, ?)", clientes);
+    }
+
+    @Test
+    public void checkInCheckOut_ConcorrenciaAcimaDasThreadsDoTomcat_SemErros() throws Exception {
+        alocadorEmMemoria.ifAvailable(AlocadorVagasEmMemoria::carregar);
+        contadorOcupacao.reconciliar();
+
+        // O pool padrão do Reactor Netty abre poucas conexões e enfileira o resto no próprio cliente
+        ConnectionProvider conexoes = ConnectionProvider.builder("carga")
+                .maxConnections(CONCORRENCIA)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebTestClient client = WebTestClient
+                .bindToServer(new ReactorClientHttpConnector(HttpClient.create(conexoes)))
+                .baseUrl("http://localhost:" + porta)
+                .responseTimeout(Duration.ofSeconds(60))
+                .build();
+        Consumer<HttpHeaders> autorizacao = JwtAuthentication.getHeaderAuthorization(client, "admin@gmail.com", "123456");
+
+        ConcurrentLinkedQueue<Long> latenciasCheckIn = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> latenciasCheckOut = new ConcurrentLinkedQueue<>();
+        AtomicInteger erros = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < CONCORRENCIA; i++) {
+            String cpf = cpf(i);
+            String placa = String.format("CRG-%04d", i);
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                for (int ciclo = 0; ciclo < CICLOS_POR_CLIENTE; ciclo++) {
+                    try {
+                        long inicio = System.nanoTime();
+                        String recibo = client.post()
+                                .uri("/api/v1/estacionamentos/check-in")
+                                .headers(autorizacao)
+                                .bodyValue(new EstacionamentoCreateDto(placa, "FIAT", "PALIO", "AZUL", cpf))
+                                .exchange()
+                                .expectStatus().isCreated()
+                                .expectBody(JsonNode.class)
+                                .returnResult().getResponseBody().get("recibo").asText();
+                        latenciasCheckIn.add(System.nanoTime() - inicio);
+
+                        inicio = System.nanoTime();
+                        client.post()
+                                .uri("/api/v1/estacionamentos/check-out/{recibo}", recibo)
+                                .headers(autorizacao)
+                                .exchange()
+                                .expectStatus().isOk();
+                        latenciasCheckOut.add(System.nanoTime() - inicio);
+                    } catch (AssertionError ex) {
+                        log.warn("Falha no ciclo de check-in/check-out", ex);
+                        erros.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        latenciaBanco.ativar(LATENCIA_BANCO_MS);
+        long inicio = System.nanoTime();
+        largada.countDown();
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(300, TimeUnit.SECONDS);
+            }
+        } finally {
+            latenciaBanco.desativar();
+            executor.shutdown();
+            conexoes.dispose();
+        }
+        long duracaoNanos = System.nanoTime() - inicio;
+
+        Resultado resultado = new Resultado(
+                latenciasCheckOut.size() / (duracaoNanos / 1_000_000_000.0),
+                p99Millis(latenciasCheckIn), p99Millis(latenciasCheckOut),
+                latenciaBanco.getMaximoSimultaneo());
+        log.info("{}: {} ciclos check-in/check-out com {} requisições simultâneas e {} ms por comando SQL em {} ms: " +
+                        "{} ciclos/s, p99 check-in {} ms, p99 check-out {} ms, até {} comandos SQL simultâneos",
+                getClass().getSimpleName(), latenciasCheckOut.size(), CONCORRENCIA, LATENCIA_BANCO_MS,
+                TimeUnit.NANOSECONDS.toMillis(duracaoNanos), String.format("%.0f", resultado.vazao()),
+                String.format("%.1f", resultado.p99CheckIn()), String.format("%.1f", resultado.p99CheckOut()),
+                resultado.maximoSimultaneo());
+
+        Assertions.assertThat(erros.get()).isZero();
+        Assertions.assertThat(latenciasCheckOut).hasSize(CONCORRENCIA * CICLOS_POR_CLIENTE);
+        if (virtualThreads) {
+            // Sem o teto de threads do Tomcat, mais requisições ficam esperando o banco ao mesmo tempo
+            Assertions.assertThat(resultado.maximoSimultaneo()).isGreaterThan(threadsTomcat);
+        }
+
+        RESULTADOS.put(virtualThreads, resultado);
+        compararModos();
+    }
+
+    private static void compararModos() {
+        Resultado plataforma = RESULTADOS.get(false);
+        Resultado virtual = RESULTADOS.get(true);
+        if (plataforma == null || virtual == null) {
+            return;
+        }
+        log.info("Virtual threads x plataforma: vazão {}x, p99 check-in {} ms x {} ms, p99 check-out {} ms x {} ms",
+                String.format("%.2f", virtual.vazao() / plataforma.vazao()),
+                String.format("%.1f", virtual.p99CheckIn()), String.format("%.1f", plataforma.p99CheckIn()),
+                String.format("%.1f", virtual.p99CheckOut()), String.format("%.1f", plataforma.p99CheckOut()));
+        Assertions.assertThat(virtual.vazao()).isGreaterThan(plataforma.vazao());
+    }
+
+    private static double p99Millis(ConcurrentLinkedQueue<Long> latencias) {
+        List<Long> ordenadas = new ArrayList<>(latencias);
+        if (ordenadas.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(ordenadas);
+        int indice = (int) Math.ceil(ordenadas.size() * 0.99) - 1;
+        return ordenadas.get(indice) / 1_000_000.0;
+    }
+
+    // CPF válido (com os dígitos verificadores) derivado do índice do cliente
+    static String cpf(int indice) {
+        String base = String.format("%09d", 123_000_000 + indice * 7);
+        int[] digitos = new int[11];
+        for (int i = 0; i < 9; i++) {
+            digitos[i] = base.charAt(i) - '0';
+        }
+        for (int posicao = 9; posicao < 11; posicao++) {
+            int soma = 0;
+            for (int i = 0; i < posicao; i++) {
+                soma += digitos[i] * (posicao + 1 - i);
+            }
+            int resto = soma % 11;
+            digitos[posicao] = resto < 2 ? 0 : 11 - resto;
+        }
+        StringBuilder cpf = new StringBuilder(base);
+        cpf.append(digitos[9]).append(digitos[10]);
+        return cpf.toString();
+    }
+
+    record Resultado(double vazao, double p99CheckIn, double p99CheckOut, int maximoSimultaneo) {
+    }
+
+    // Envolve o DataSource e faz cada comando SQL esperar a latência configurada, contando quantos
+    // estão em andamento ao mesmo tempo. Desligado fora do trecho medido (migrações, scripts @Sql).
+    static class LatenciaBanco implements BeanPostProcessor {
+
+        private volatile long latenciaMs;
+        private final AtomicInteger emAndamento = new AtomicInteger();
+        private final AtomicInteger maximoSimultaneo = new AtomicInteger();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("latencia")
+                        .beforeQuery((execucao, queries) -> esperar())
+                        .afterQuery((execucao, queries) -> {
+                            if (latenciaMs > 0) {
+                                emAndamento.decrementAndGet();
+                            }
+                        })
+                        .build();
+            }
+            return bean;
+        }
+
+        void ativar(long latenciaMs) {
+            emAndamento.set(0);
+            maximoSimultaneo.set(0);
+            this.latenciaMs = latenciaMs;
+        }
+
+        void desativar() {
+            latenciaMs = 0;
+        }
+
+        int getMaximoSimultaneo() {
+            return maximoSimultaneo.get();
+        }
+
+        private void esperar() {
+            long latencia = latenciaMs;
+            if (latencia == 0) {
+                return;
+            }
+            maximoSimultaneo.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latencia);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
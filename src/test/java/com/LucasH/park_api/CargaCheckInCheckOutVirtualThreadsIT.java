@@ -0,0 +1,12 @@
+package com.LucasH.park_api;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+// Mesmo cenário de CargaCheckInCheckOutIT com o servidor no modo virtual threads (herda a tag "carga").
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(CargaCheckInCheckOutIT.LatenciaBanco.class)
+@ActiveProfiles("virtual-threads")
+public class CargaCheckInCheckOutVirtualThreadsIT extends CargaCheckInCheckOutIT {
+}
@@ -0,0 +1,151 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.alocacao.AlocadorVagasEmMemoria;
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Dispara check-ins em paralelo pela API até acabarem as vagas livres e verifica, na resposta e no
+// banco, que nenhuma vaga é entregue duas vezes. Cada thread usa o seu próprio cliente, assim o lock
+// do contador de fidelidade não serializa os check-ins. A vazão medida é registrada no log.
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/concorrencia/concorrencia-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/concorrencia/concorrencia-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class CheckInConcorrenteIT {
+
+    private static final int TOTAL_VAGAS = 200;
+    private static final int THREADS = 16;
+    private static final String SENHA_123456 = "$2a$12$Y3ypwyTD5Czhu7/sWaCU3uNa9VWk9vjIg6pTDelK1tDFdj/M8NIM6";
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectProvider<AlocadorVagasEmMemoria> alocadorEmMemoria;
+
+    @Autowired
+    ContadorOcupacao contadorOcupacao;
+
+    @BeforeEach
+    public void criarVagasEClientes() {
+        List<Object[]> vagas = new ArrayList<>();
+        for (int i = 1; i <= TOTAL_VAGAS; i++) {
+            vagas.add(new Object[]{1000L + i, String.format("C%03d", i)});
+        }
+        List<Object[]> usuarios = new ArrayList<>();
+        List<Object[]> clientes = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long id = 1000 + i;
+            usuarios.add(new Object[]{id, String.format("concorrencia%02d@gmail.com", i), SENHA_123456});
+            clientes.add(new Object[]{id, "Cliente Concorrencia " + i, CargaCheckInCheckOutIT.cpf(i), id});
+        }
+        jdbcTemplate.batchUpdate("insert into VAGAS (id, codigo, status) values (?, ?, 'LIVRE')", vagas);
+        jdbcTemplate.batchUpdate("insert into USUARIOS (id, username, password, role) values (?, ?, ?, 'USER')", usuarios);
+        jdbcTemplate.batchUpdate("insert into CLIENTES (id, nome, cpf, id_usuario) values (?, ?, ?, ?)", clientes);
+    }
+
+    @Test
+    public void checkIn_EmParalelo_NenhumaVagaAlocadaDuasVezes() throws Exception {
+        alocadorEmMemoria.ifAvailable(AlocadorVagasEmMemoria::carregar);
+        contadorOcupacao.reconciliar();
+
+        WebTestClient client = testClient.mutate().responseTimeout(Duration.ofSeconds(30)).build();
+        Consumer<HttpHeaders> autorizacao = JwtAuthentication.getHeaderAuthorization(client, "admin@gmail.com", "123456");
+
+        Set<String> alocadas = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicadas = new AtomicInteger();
+        AtomicInteger erros = new AtomicInteger();
+        AtomicInteger placas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            String cpf = CargaCheckInCheckOutIT.cpf(i);
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                while (true) {
+                    String placa = String.format("CNC-%04d", placas.incrementAndGet());
+                    EntityExchangeResult<JsonNode> resposta = client.post()
+                            .uri("/api/v1/estacionamentos/check-in")
+                            .headers(autorizacao)
+                            .bodyValue(new EstacionamentoCreateDto(placa, "FIAT", "PALIO", "AZUL", cpf))
+                            .exchange()
+                            .expectBody(JsonNode.class)
+                            .returnResult();
+                    if (resposta.getStatus().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                        // Nenhuma vaga livre: o estacionamento encheu
+                        return null;
+                    }
+                    if (!resposta.getStatus().isSameCodeAs(HttpStatus.CREATED)) {
+                        log.warn("Check-in concorrente retornou {}: {}", resposta.getStatus(), resposta.getResponseBody());
+                        erros.incrementAndGet();
+                        return null;
+                    }
+                    if (!alocadas.add(resposta.getResponseBody().get("vagaCodigo").asText())) {
+                        duplicadas.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        long inicio = System.nanoTime();
+        largada.countDown();
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long duracaoNanos = System.nanoTime() - inicio;
+
+        log.info("{}: {} check-ins por {} threads em {} ms ({} check-ins/s)",
+                getClass().getSimpleName(), alocadas.size(), THREADS, TimeUnit.NANOSECONDS.toMillis(duracaoNanos),
+                String.format("%.0f", alocadas.size() / (duracaoNanos / 1_000_000_000.0)));
+
+        Assertions.assertThat(erros.get()).isZero();
+        Assertions.assertThat(duplicadas.get()).isZero();
+        Assertions.assertThat(alocadas).hasSize(TOTAL_VAGAS);
+        // O banco confirma o que as respostas disseram: um estacionamento aberto por vaga, todas ocupadas
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct id_vaga) from cliente_tem_vagas where data_saida is null", Long.class))
+                .isEqualTo(TOTAL_VAGAS);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from cliente_tem_vagas where data_saida is null", Long.class))
+                .isEqualTo(TOTAL_VAGAS);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from vagas where status = 'LIVRE'", Long.class))
+                .isZero();
+    }
+}
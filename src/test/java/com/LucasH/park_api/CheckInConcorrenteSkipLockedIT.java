@@ -0,0 +1,20 @@
+package com.LucasH.park_api;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Mesmo cenário de CheckInConcorrenteIT usando a alocação com FOR UPDATE SKIP LOCKED, contra um
+// PostgreSQL real: é no Postgres que os locks de linha e o SKIP LOCKED têm o comportamento que a
+// alocação entre vários nós depende. Só roda quando há Docker disponível.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "park.vagas.alocacao=skip-locked")
+public class CheckInConcorrenteSkipLockedIT extends CheckInConcorrenteIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+}
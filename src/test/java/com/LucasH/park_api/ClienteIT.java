@@ -3,11 +3,13 @@ package com.LucasH.park_api;
 import com.LucasH.park_api.web.dto.ClienteCreateDto;
 import com.LucasH.park_api.web.dto.ClienteResponseDto;
 import com.LucasH.park_api.web.dto.PageableDto;
+import com.LucasH.park_api.web.dto.SliceDto;
 import com.LucasH.park_api.web.exeception.ErrorMessage;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -183,6 +185,23 @@ public class ClienteIT {
 
     }
 
+    @Test
+    public void localizarTodosClientes_SemContagem_RetornarSliceDtoComStatus200() {
+        SliceDto responseBody = testClient
+                .get()
+                .uri("/api/v1/clientes?contar=false&size=1")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SliceDto.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        Assertions.assertThat(responseBody.isHasNext()).isTrue();
+        Assertions.assertThat(responseBody.isFirst()).isTrue();
+    }
+
     @Test
     public void localizarTodosClientes_ComRoleCliente_RetornarErrorMenssageComStatus403() {
         ErrorMessage responseBody = testClient
@@ -229,4 +248,26 @@ public class ClienteIT {
         Assertions.assertThat(responseBody.getStatus()).isEqualTo(403);
     }
 
+    @Test
+    public void localizarCliente_ComEtagAtual_RetornarStatus304() {
+        String etag = testClient
+                .get()
+                .uri("/api/v1/clientes/10")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        Assertions.assertThat(etag).isNotNull();
+
+        testClient
+                .get()
+                .uri("/api/v1/clientes/10")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
 }
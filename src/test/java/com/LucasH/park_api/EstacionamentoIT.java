@@ -1,8 +1,14 @@
 package com.LucasH.park_api;
 
+import com.LucasH.park_api.repository.ClienteVagaRepository;
 import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.LucasH.park_api.web.dto.CheckOutLoteDto;
+import com.LucasH.park_api.web.dto.CursorPageDto;
+import com.LucasH.park_api.web.dto.EstacionamentoLoteCreateDto;
 import com.LucasH.park_api.web.dto.PageableDto;
 import com.LucasH.park_api.web.exeception.ErrorMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
@@ -10,18 +16,45 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 public class EstacionamentoIT {
+
+    // Período da exportação em volta das entradas dos scripts, gravadas em relação ao horário atual
+    private static final String ONTEM = LocalDate.now().minusDays(1).atStartOfDay().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    private static final String AMANHA = LocalDate.now().plusDays(1).atStartOfDay().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
     @Autowired
     WebTestClient testClient;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ClienteVagaRepository clienteVagaRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     @Test
     public void CriarCheckin_ComDadosValidos_RetornarCreateAndLocationStatus201() {
         EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
@@ -150,6 +183,96 @@ public class EstacionamentoIT {
                 .jsonPath("method").isEqualTo("POST");
     }
 
+    @Test
+    public void CriarCheckinLote_ComItensValidosEInvalidos_RetornarResultadoPorItemStatus200() {
+        EstacionamentoLoteCreateDto loteDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT").modelo("PALIO 1.0")
+                        .cor("VERMELHO").clienteCpf("38352600060").build(),
+                EstacionamentoCreateDto.builder().placa("WSP-4570").marca("FIAT").modelo("UNO")
+                        .cor("PRATA").clienteCpf("98598204064").build(),
+                EstacionamentoCreateDto.builder().placa("WSP-4571").marca("VW").modelo("GOL")
+                        .cor("AZUL").clienteCpf("17908922015").build()
+        ));
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(loteDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].status").isEqualTo(201)
+                .jsonPath("$[0].estacionamento.placa").isEqualTo("WSP-4569")
+                .jsonPath("$[0].estacionamento.recibo").exists()
+                .jsonPath("$[0].estacionamento.vagaCodigo").exists()
+                .jsonPath("$[1].status").isEqualTo(404)
+                .jsonPath("$[1].mensagem").exists()
+                .jsonPath("$[2].status").isEqualTo(201)
+                .jsonPath("$[2].estacionamento.clienteCpf").isEqualTo("17908922015");
+    }
+
+    @Test
+    public void CriarCheckinLote_ComRoleUser_RetornarErrorMensageStatus403() {
+        EstacionamentoLoteCreateDto loteDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT").modelo("PALIO 1.0")
+                        .cor("VERMELHO").clienteCpf("38352600060").build()
+        ));
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .bodyValue(loteDto)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("path").isEqualTo("/api/v1/estacionamentos/check-in/lote");
+    }
+
+    @Test
+    public void CriarCheckOutLote_ComRecibosExistentesEInexistentes_RetornarResultadoPorItemStatus200() {
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(new CheckOutLoteDto(List.of("20241001-141519", "20241001-999999", "20241001-151519", "20241001-141519")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(4)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].estacionamento.recibo").isEqualTo("20241001-141519")
+                .jsonPath("$[0].estacionamento.dataSaida").exists()
+                .jsonPath("$[0].estacionamento.valor").exists()
+                .jsonPath("$[0].estacionamento.vagaCodigo").isEqualTo("A-01")
+                .jsonPath("$[1].status").isEqualTo(404)
+                .jsonPath("$[1].mensagem").exists()
+                .jsonPath("$[2].status").isEqualTo(200)
+                .jsonPath("$[2].estacionamento.recibo").isEqualTo("20241001-151519")
+                .jsonPath("$[3].status").isEqualTo(404);
+    }
+
+    @Test
+    public void CriarCheckOutLote_ComRoleUser_RetornarErrorMensageStatus403() {
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .bodyValue(new CheckOutLoteDto(List.of("20241001-141519")))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("path").isEqualTo("/api/v1/estacionamentos/check-out/lote");
+    }
+
     @Test
     public void BuscarPorRecibo_ComReciboValido_RetornarEstacionamentoResponseDtoStatus200() {
 
@@ -223,6 +346,25 @@ public class EstacionamentoIT {
                 .jsonPath("valor").isNumber();
     }
 
+    @Test
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql",
+            statements = "insert into CLIENTES_CONTADORES (id_cliente, estacionamentos_completos) values (10, 10)",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void checkOut_ComDecimoEstacionamentoNoContador_RetornarDescontoStatus200() {
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}" ,"20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("clienteCpf").isEqualTo("38352600060")
+                .jsonPath("desconto").value(desconto ->
+                        Assertions.assertThat(((Number) desconto).doubleValue()).isPositive());
+    }
+
 
 
     @Test
@@ -286,6 +428,66 @@ public class EstacionamentoIT {
         Assertions.assertThat(responseBody.getSize()).isEqualTo(1);
     }
 
+    @Test
+    public void BuscarEstacionamentos_PorClienteCpfComCursor_RetornarPaginasSemRepetirStatus200() {
+        CursorPageDto primeira = testClient
+                .get()
+                .uri("api/v1/estacionamentos/cpf/{cpf}?size=1&cursor=" ,"38352600060")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageDto.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(primeira).isNotNull();
+        Assertions.assertThat(primeira.getContent()).size().isEqualTo(1);
+        Assertions.assertThat(primeira.isHasNext()).isTrue();
+        Assertions.assertThat(primeira.getNextCursor()).isNotBlank();
+
+        CursorPageDto segunda = testClient
+                .get()
+                .uri("api/v1/estacionamentos/cpf/{cpf}?size=1&cursor={cursor}" ,"38352600060", primeira.getNextCursor())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageDto.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(segunda).isNotNull();
+        Assertions.assertThat(segunda.getContent()).size().isEqualTo(1);
+        Assertions.assertThat(segunda.isHasNext()).isFalse();
+        Assertions.assertThat(segunda.getNextCursor()).isNull();
+        Assertions.assertThat(segunda.getContent().get(0)).isNotEqualTo(primeira.getContent().get(0));
+    }
+
+    @Test
+    public void BuscarEstacionamentos_PorClienteCpfComCursorInvalido_RetornarErrorMensageStatus400() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/cpf/{cpf}?cursor=invalido" ,"38352600060")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("status").isEqualTo("400");
+    }
+
+    @Test
+    public void buscarEstacionamento_PorClienteAutenticadoComCursor_retornarCursorPageDtoStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos?cursor=")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"raissa@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(2)
+                .jsonPath("size").isEqualTo(5)
+                .jsonPath("hasNext").isEqualTo(false)
+                .jsonPath("nextCursor").doesNotExist()
+                .jsonPath("totalPages").doesNotExist();
+    }
+
     @Test
     public void buscarEstacionamento_PorClienteCpfComRoleUser_RetornarErrorMensageStatus403() {
         testClient
@@ -322,6 +524,22 @@ public class EstacionamentoIT {
         Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(2);
     }
 
+    @Test
+    public void buscarEstacionamento_PorClienteAutenticadoSemContagem_retornarSliceDtoStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos?contar=false&size=1")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"raissa@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(1)
+                .jsonPath("hasNext").isEqualTo(true)
+                .jsonPath("page").isEqualTo(0)
+                .jsonPath("totalPages").doesNotExist()
+                .jsonPath("totalElements").doesNotExist();
+    }
+
     @Test
     public void buscarEstacionamento_PorRoleAdmin_retornarErrorMensageStatus403() {
         ErrorMessage responseBody = testClient
@@ -341,6 +559,340 @@ public class EstacionamentoIT {
 
     }
 
+    @Test
+    public void exportarEstacionamentos_EmNdjsonPorPeriodo_RetornarUmaLinhaPorRegistroStatus200() throws Exception {
+        String corpo = testClient
+                .get()
+                .uri("api/v1/estacionamentos/exportacao?inicio={inicio}&fim={fim}", ONTEM, AMANHA)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(corpo).isNotNull();
+        List<String> linhas = corpo.lines().toList();
+        Assertions.assertThat(linhas).hasSize(4);
+        Assertions.assertThat(linhas).allMatch(linha -> linha.startsWith("{") && linha.endsWith("}"));
+        // A data exportada é a gravada no banco, lida de volta pelo repositório
+        JsonNode primeira = objectMapper.readTree(linhas.get(0));
+        LocalDateTime dataEntrada = clienteVagaRepository.findByReciboAndDataSaidaIsNull(primeira.get("recibo").asText())
+                .orElseThrow().getDataEntrada();
+        Assertions.assertThat(LocalDateTime.parse(primeira.get("dataEntrada").asText())).isEqualTo(dataEntrada);
+    }
+
+    @Test
+    public void exportarEstacionamentos_EmCsvPorCpf_RetornarCabecalhoERegistrosDoClienteStatus200() {
+        String corpo = testClient
+                .get()
+                .uri("api/v1/estacionamentos/exportacao?inicio={inicio}&fim={fim}&cpf={cpf}&formato=csv", ONTEM, AMANHA, "38352600060")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectHeader().valueMatches(HttpHeaders.CONTENT_DISPOSITION, ".*estacionamentos\\.csv.*")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(corpo).isNotNull();
+        List<String> linhas = corpo.lines().toList();
+        Assertions.assertThat(linhas).hasSize(3);
+        Assertions.assertThat(linhas.get(0)).startsWith("id,recibo,clienteCpf,placa");
+        Assertions.assertThat(linhas.subList(1, 3)).allMatch(linha -> linha.contains(",38352600060,"));
+    }
+
+    @Test
+    public void exportarEstacionamentos_ComFormatoInvalido_RetornarErrorMensageStatus400() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/exportacao?inicio={inicio}&fim={fim}&formato=xml", ONTEM, AMANHA)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("status").isEqualTo("400");
+    }
+
+    @Test
+    public void exportarEstacionamentos_ComRoleUser_RetornarErrorMensageStatus403() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/exportacao?inicio={inicio}&fim={fim}", ONTEM, AMANHA)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void BuscarPorRecibo_ComEtagAtual_RetornarStatus304SemCorpo() {
+        String etag = testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/{recibo}" ,"20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/{recibo}" ,"20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void BuscarPorRecibo_ComEtagAntigo_RetornarEstacionamentoStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/{recibo}" ,"20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("recibo").isEqualTo("20241001-141519");
+    }
+
+    @Test
+    public void CriarCheckin_RepetidoComMesmaIdempotencyKey_RetornarMesmoReciboStatus201() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("WSP-4569")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+        String chave = UUID.randomUUID().toString();
+
+        URI primeira = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header("Idempotency-Key", chave)
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation();
+
+        URI repetida = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header("Idempotency-Key", chave)
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation();
+
+        Assertions.assertThat(repetida).isNotNull().isEqualTo(primeira);
+    }
+
+    @Test
+    public void CriarCheckin_ComIdempotencyKeyUsadaComOutrosDados_RetornarErrorMensageStatus409() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("WSP-4569")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+        String chave = UUID.randomUUID().toString();
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header("Idempotency-Key", chave)
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated();
+
+        createDto.setPlaca("WSP-4570");
+        ErrorMessage responseBody = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .header("Idempotency-Key", chave)
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody(ErrorMessage.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    public void checkOut_RepetidoComMesmaIdempotencyKey_RetornarMesmoRegistroStatus200() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("WSP-4569")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+        JsonNode checkIn = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class)
+                .returnResult().getResponseBody();
+        Assertions.assertThat(checkIn).isNotNull();
+        String recibo = checkIn.get("recibo").asText();
+
+        String chave = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            testClient
+                    .post()
+                    .uri("api/v1/estacionamentos/check-out/{recibo}", recibo)
+                    .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                    .header("Idempotency-Key", chave)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("recibo").isEqualTo(recibo)
+                    .jsonPath("dataSaida").exists();
+        }
+    }
+
+    @Test
+    public void CriarCheckin_ComVeiculoJaEstacionado_RetornarErrorMensageStatus409() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("ASD-8564")
+                .marca("Honda")
+                .modelo("Civic Sport")
+                .cor("Branco")
+                .clienteCpf("38352600060")
+                .build();
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("status").isEqualTo("409")
+                .jsonPath("path").isEqualTo("/api/v1/estacionamentos/check-in")
+                .jsonPath("method").isEqualTo("POST");
+    }
+
+    @Test
+    public void CriarCheckinLote_ComPlacaRepetida_RetornarConflitoNoItemRepetidoStatus200() {
+        EstacionamentoLoteCreateDto loteDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT").modelo("PALIO 1.0")
+                        .cor("VERMELHO").clienteCpf("38352600060").build(),
+                EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT").modelo("PALIO 1.0")
+                        .cor("VERMELHO").clienteCpf("38352600060").build(),
+                EstacionamentoCreateDto.builder().placa("SFQ-6547").marca("Toyota").modelo("Bandeirante")
+                        .cor("Prata").clienteCpf("38352600060").build()
+        ));
 
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(loteDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].status").isEqualTo(201)
+                .jsonPath("$[1].status").isEqualTo(409)
+                .jsonPath("$[1].mensagem").exists()
+                .jsonPath("$[2].status").isEqualTo(409);
+    }
 
+    @Test
+    public void BuscarPorPlaca_ComVeiculoEstacionado_RetornarEstacionamentoResponseDtoStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "asd8564")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("placa").isEqualTo("ASD-8564")
+                .jsonPath("recibo").isEqualTo("20241001-141519")
+                .jsonPath("clienteCpf").isEqualTo("38352600060")
+                .jsonPath("vagaCodigo").isEqualTo("A-01")
+                .jsonPath("dataSaida").doesNotExist();
+    }
+
+    @Test
+    public void BuscarPorPlaca_SemVeiculoEstacionado_RetornarErrorMensageStatus404() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "WSP-4569")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("status").isEqualTo("404")
+                .jsonPath("method").isEqualTo("GET");
+    }
+
+    @Test
+    public void BuscarPorPlaca_ComRoleUser_RetornarErrorMensageStatus403() {
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "ASD-8564")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("method").isEqualTo("GET");
+    }
+
+    @Test
+    public void checkOut_PrimeirosCheckOutsSimultaneosDoMesmoCliente_CriarUmUnicoContadorStatus200() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Integer>> tarefas = new ArrayList<>();
+        for (String recibo : List.of("20241001-141519", "20241001-161019")) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                return testClient
+                        .post()
+                        .uri("api/v1/estacionamentos/check-out/{recibo}", recibo)
+                        .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                        .exchange()
+                        .returnResult(String.class)
+                        .getStatus().value();
+            }));
+        }
+        largada.countDown();
+        for (Future<Integer> tarefa : tarefas) {
+            Assertions.assertThat(tarefa.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+        executor.shutdown();
+
+        Long total = jdbcTemplate.queryForObject(
+                "select estacionamentos_completos from clientes_contadores where id_cliente = 10", Long.class);
+        Assertions.assertThat(total).isEqualTo(2L);
+    }
 }
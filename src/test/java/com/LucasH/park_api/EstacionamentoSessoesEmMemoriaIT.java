@@ -0,0 +1,131 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.sessao.SessoesAtivasEmMemoria;
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.LucasH.park_api.web.dto.EstacionamentoLoteCreateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+// Todos os cenários de EstacionamentoIT com o registro de sessões em memória (park.sessoes.ativas=memoria),
+// o modo padrão da aplicação, mais os caminhos que só existem nele: a placa reservada no check-in
+// precisa ser liberada quando a transação volta atrás ou quando o item do lote fica sem vaga.
+// O registro é recarregado depois do @Sql, que insere os estacionamentos direto no banco.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "park.sessoes.ativas=memoria")
+public class EstacionamentoSessoesEmMemoriaIT extends EstacionamentoIT {
+
+    @Autowired
+    SessoesAtivasEmMemoria sessoesAtivas;
+
+    @BeforeEach
+    public void carregarSessoes() {
+        sessoesAtivas.carregar();
+    }
+
+    @Test
+    @Sql(scripts = "/sql/estacionamentos/estacionamento-insert-vagas-ocupadas.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/estacionamentos/estacionamento-delete-vagas-ocupadas.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void criarCheckin_SemVagaLivre_LiberarPlacaNoRollback() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("MEM-0002")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+
+        // Sem o rollback liberando a placa, a segunda tentativa receberia 409 (veículo já estacionado)
+        for (int tentativa = 0; tentativa < 2; tentativa++) {
+            testClient
+                    .post()
+                    .uri("api/v1/estacionamentos/check-in")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                    .bodyValue(createDto)
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "MEM-0002")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // Com uma vaga liberada, o mesmo veículo entra
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", "20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk();
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("placa").isEqualTo("MEM-0002")
+                .jsonPath("vagaCodigo").isEqualTo("A-01");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/estacionamentos/estacionamento-insert-vagas-ocupadas.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/estacionamentos/estacionamento-delete-vagas-ocupadas.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void criarCheckinLote_ItensSemVagaLivre_CancelarReservaDasPlacas() {
+        EstacionamentoLoteCreateDto loteDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder().placa("MEM-0003").marca("FIAT").modelo("PALIO 1.0")
+                        .cor("VERMELHO").clienteCpf("38352600060").build(),
+                EstacionamentoCreateDto.builder().placa("MEM-0004").marca("VW").modelo("GOL")
+                        .cor("AZUL").clienteCpf("17908922015").build()
+        ));
+
+        // Os dois itens ficam sem vaga; sem o cancelamento a segunda tentativa teria 409 nos dois
+        for (int tentativa = 0; tentativa < 2; tentativa++) {
+            testClient
+                    .post()
+                    .uri("api/v1/estacionamentos/check-in/lote")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                    .bodyValue(loteDto)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.length()").isEqualTo(2)
+                    .jsonPath("$[0].status").isEqualTo(404)
+                    .jsonPath("$[1].status").isEqualTo(404);
+        }
+
+        // Com uma vaga liberada, o primeiro item entra e o segundo continua sem vaga
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", "20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk();
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(loteDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo(201)
+                .jsonPath("$[0].estacionamento.placa").isEqualTo("MEM-0003")
+                .jsonPath("$[1].status").isEqualTo(404);
+    }
+}
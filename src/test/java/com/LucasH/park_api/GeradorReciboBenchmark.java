@@ -0,0 +1,64 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.recibo.GeradorReciboDataHora;
+import com.LucasH.park_api.service.recibo.GeradorReciboSequencial;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Compara o recibo original (data e hora formatadas) com o gerador sequencial, em uma thread
+// e com várias threads disputando o mesmo gerador (compareAndSet sobre o último valor).
+// Não roda com os testes; execute a classe pela IDE ou com:
+// mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.LucasH.park_api.GeradorReciboBenchmark
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeradorReciboBenchmark {
+
+    private GeradorReciboDataHora dataHora;
+    private GeradorReciboSequencial sequencial;
+
+    @Setup
+    public void setup() {
+        dataHora = new GeradorReciboDataHora();
+        sequencial = new GeradorReciboSequencial(1);
+    }
+
+    @Benchmark
+    public String dataHora() {
+        return dataHora.gerar();
+    }
+
+    @Benchmark
+    public String sequencial() {
+        return sequencial.gerar();
+    }
+
+    // Só o id numérico: o caminho sem alocação
+    @Benchmark
+    public long sequencialId() {
+        return sequencial.proximoId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String sequencialConcorrente() {
+        return sequencial.gerar();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long sequencialIdConcorrente() {
+        return sequencial.proximoId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GeradorReciboBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,27 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.recibo.GeradorRecibo;
+import com.LucasH.park_api.service.recibo.GeradorReciboSequencial;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Garante que o gerador padrão é criado pelo contexto do Spring (construtor escolhido com @Autowired)
+@SpringBootTest
+public class GeradorReciboIT {
+
+    @Autowired
+    GeradorRecibo geradorRecibo;
+
+    @Test
+    public void geradorRecibo_ConfiguracaoPadrao_CriarGeradorSequencial() {
+        Assertions.assertThat(geradorRecibo).isInstanceOf(GeradorReciboSequencial.class);
+
+        String primeiro = geradorRecibo.gerar();
+        String segundo = geradorRecibo.gerar();
+
+        Assertions.assertThat(primeiro).hasSize(13);
+        Assertions.assertThat(segundo).isGreaterThan(primeiro);
+    }
+}
@@ -0,0 +1,74 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.recibo.GeradorReciboSequencial;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class GeradorReciboSequencialTest {
+
+    private static final int THREADS = 32;
+    private static final int RECIBOS_POR_THREAD = 20_000;
+
+    @Test
+    public void gerar_EmVariasThreadsEInstancias_RetornarRecibosUnicosECrescentes() throws Exception {
+        GeradorReciboSequencial noUm = new GeradorReciboSequencial(1);
+        GeradorReciboSequencial noDois = new GeradorReciboSequencial(2);
+
+        Set<String> recibos = ConcurrentHashMap.newKeySet(THREADS * RECIBOS_POR_THREAD);
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            GeradorReciboSequencial gerador = i % 2 == 0 ? noUm : noDois;
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                int foraDeOrdem = 0;
+                String anterior = "";
+                for (int j = 0; j < RECIBOS_POR_THREAD; j++) {
+                    String recibo = gerador.gerar();
+                    if (recibo.compareTo(anterior) <= 0) {
+                        foraDeOrdem++;
+                    }
+                    recibos.add(recibo);
+                    anterior = recibo;
+                }
+                return foraDeOrdem;
+            }));
+        }
+
+        long inicio = System.nanoTime();
+        largada.countDown();
+        int foraDeOrdem = 0;
+        for (Future<Integer> tarefa : tarefas) {
+            foraDeOrdem += tarefa.get(60, TimeUnit.SECONDS);
+        }
+        long duracaoNanos = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        log.info("{} recibos gerados por {} threads em {} ms", recibos.size(), THREADS,
+                TimeUnit.NANOSECONDS.toMillis(duracaoNanos));
+
+        Assertions.assertThat(recibos).hasSize(THREADS * RECIBOS_POR_THREAD);
+        Assertions.assertThat(foraDeOrdem).isZero();
+        Assertions.assertThat(recibos).allSatisfy(recibo -> Assertions.assertThat(recibo).hasSizeLessThanOrEqualTo(15));
+    }
+
+    @Test
+    public void criarGerador_ComNumeroDeInstanciaInvalido_LancarExcecao() {
+        Assertions.assertThatThrownBy(() -> new GeradorReciboSequencial(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,191 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.ClienteVagaArquivoRepository;
+import com.LucasH.park_api.repository.ClienteVagaRepository;
+import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.repository.projection.ClienteVagaCursorProjection;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Confere pelo plano de execução que as consultas mais frequentes usam os índices criados em
+// db/migration, e não uma varredura da tabela inteira. O SQL não é escrito à mão: os métodos reais
+// dos repositórios são executados, o SQL gerado pelo Hibernate é capturado no DataSource e o
+// EXPLAIN roda sobre ele com os mesmos parâmetros.
+@SpringBootTest
+@Import(IndicesIT.CapturaSql.class)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class IndicesIT {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    CapturaSql capturaSql;
+
+    @Autowired
+    ClienteVagaRepository clienteVagaRepository;
+
+    @Autowired
+    ClienteVagaArquivoRepository arquivoRepository;
+
+    @Autowired
+    VagaRepository vagaRepository;
+
+    @BeforeEach
+    public void limparConsultas() {
+        capturaSql.limpar();
+    }
+
+    @Test
+    public void historicoDoCliente_PorCursor_UsarIndiceClienteEntrada() {
+        String plano = explicar(capturar("cliente_tem_vagas", () ->
+                clienteVagaRepository.findCursorByClienteCpf("38352600060", Limit.of(10))));
+
+        assertUsaIndice(plano, "idx_cliente_tem_vagas_cliente_entrada");
+    }
+
+    @Test
+    public void historicoArquivadoDoCliente_PorCursor_UsarIndiceArquivoClienteEntrada() {
+        String plano = explicar(capturar("cliente_tem_vagas_arquivo", () ->
+                arquivoRepository.findCursorByClienteCpf("38352600060", Limit.of(10))));
+
+        assertUsaIndice(plano, "idx_cliente_tem_vagas_arquivo_cliente_entrada");
+    }
+
+    @Test
+    public void totalConcluidos_PorCliente_UsarIndiceClienteConcluidos() {
+        String plano = explicar(capturar("cliente_tem_vagas", () ->
+                clienteVagaRepository.countByClienteCpfAndDataSaidaIsNotNull("38352600060")));
+
+        assertUsaIndice(plano, "idx_cliente_tem_vagas_cliente_concluidos");
+    }
+
+    @Test
+    public void exportacao_PorPeriodo_UsarIndiceEntrada() {
+        LocalDateTime inicio = LocalDateTime.of(2024, 10, 1, 0, 0);
+        String plano = explicar(capturar("cliente_tem_vagas", () -> {
+            try (Stream<ClienteVagaCursorProjection> linhas = clienteVagaRepository.streamByDataEntrada(inicio, inicio.plusDays(1))) {
+                return linhas.count();
+            }
+        }));
+
+        assertUsaIndice(plano, "idx_cliente_tem_vagas_entrada");
+    }
+
+    @Test
+    public void checkOut_PorReciboAberto_UsarIndiceUnicoDoRecibo() {
+        String plano = explicar(capturar("cliente_tem_vagas", () ->
+                clienteVagaRepository.findByReciboAndDataSaidaIsNull("20241001-141519")));
+
+        assertUsaIndice(plano, "uk_cliente_tem_vagas_recibo");
+    }
+
+    @Test
+    public void vagasLivres_ParaAlocacao_UsarIndiceVagasLivres() {
+        String plano = explicar(capturar("vagas", () ->
+                vagaRepository.findLivresParaAtualizacao(Vaga.StatusVaga.LIVRE, List.of(-1L), Limit.of(1))));
+
+        assertUsaIndice(plano, "idx_vagas_livres");
+    }
+
+    @Test
+    public void estacionamentoAberto_PorPlaca_UsarIndicePlacaAberta() {
+        String plano = explicar(capturar("cliente_tem_vagas", () ->
+                clienteVagaRepository.findFirstByPlacaAndDataSaidaIsNull("ASD-8564")));
+
+        // idx_ (placa, data_saida) no H2, uk_ parcial único no Postgres
+        assertUsaIndice(plano, "cliente_tem_vagas_placa_aberta");
+    }
+
+    // Executa a chamada do repositório numa transação (consultas com lock e Stream exigem uma)
+    // e devolve o primeiro SELECT emitido sobre a tabela informada.
+    private Consulta capturar(String tabela, Supplier<?> chamada) {
+        transactionTemplate.execute(status -> chamada.get());
+        return capturaSql.getConsultas().stream()
+                .filter(c -> c.sql().toLowerCase().startsWith("select") && c.sql().toLowerCase().contains(tabela))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Nenhum SELECT capturado sobre " + tabela));
+    }
+
+    protected String explicar(Consulta consulta) {
+        return jdbcTemplate.queryForObject("explain " + consulta.sql(), String.class, consulta.parametros().toArray());
+    }
+
+    // Marcador que o plano usa para uma leitura da tabela inteira
+    protected String varreduraCompleta() {
+        return "tableScan";
+    }
+
+    private void assertUsaIndice(String plano, String indice) {
+        Assertions.assertThat(plano).doesNotContainIgnoringCase(varreduraCompleta());
+        Assertions.assertThat(plano).containsIgnoringCase(indice);
+    }
+
+    public record Consulta(String sql, List<Object> parametros) {
+    }
+
+    // Envolve o DataSource do contexto de teste e guarda cada SQL executado com seus parâmetros
+    static class CapturaSql implements BeanPostProcessor {
+
+        private final List<Consulta> consultas = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("indices")
+                        .afterQuery((execucao, queries) -> queries.forEach(q ->
+                                consultas.add(new Consulta(q.getQuery(), parametros(q)))))
+                        .build();
+            }
+            return bean;
+        }
+
+        List<Consulta> getConsultas() {
+            return consultas;
+        }
+
+        void limpar() {
+            consultas.clear();
+        }
+
+        private static List<Object> parametros(QueryInfo query) {
+            List<Object> parametros = new ArrayList<>();
+            if (query.getParametersList().isEmpty()) {
+                return parametros;
+            }
+            query.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                    .forEach(op -> parametros.add(
+                            ParameterSetOperation.isSetNullParameterOperation(op) ? null : op.getArgs()[1]));
+            return parametros;
+        }
+    }
+}
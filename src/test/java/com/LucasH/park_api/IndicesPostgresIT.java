@@ -0,0 +1,58 @@
+package com.LucasH.park_api;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+// Mesmas consultas do IndicesIT rodando contra um PostgreSQL real, onde valem os índices parciais
+// de db/migration/postgresql. Com poucas linhas o planejador preferiria Seq Scan de qualquer jeito,
+// então a varredura sequencial é desligada na conexão do EXPLAIN: se ainda assim aparecer Seq Scan,
+// nenhum índice atende a consulta. Só roda quando há Docker disponível.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@Import(IndicesIT.CapturaSql.class)
+public class IndicesPostgresIT extends IndicesIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Override
+    protected String explicar(Consulta consulta) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) conexao -> {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute("set enable_seqscan = off");
+            }
+            try (PreparedStatement explain = conexao.prepareStatement("explain " + consulta.sql())) {
+                for (int i = 0; i < consulta.parametros().size(); i++) {
+                    explain.setObject(i + 1, consulta.parametros().get(i));
+                }
+                StringJoiner plano = new StringJoiner("\n");
+                try (ResultSet linhas = explain.executeQuery()) {
+                    while (linhas.next()) {
+                        plano.add(linhas.getString(1));
+                    }
+                }
+                return plano.toString();
+            } finally {
+                try (Statement comando = conexao.createStatement()) {
+                    comando.execute("reset enable_seqscan");
+                }
+            }
+        });
+    }
+
+    @Override
+    protected String varreduraCompleta() {
+        return "Seq Scan";
+    }
+}
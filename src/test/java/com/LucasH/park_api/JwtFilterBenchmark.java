@@ -0,0 +1,56 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.jwt.JwtTokenCache;
+import com.LucasH.park_api.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Custo do tratamento do token por requisição no JwtAuthorizationFilter.
+// antes: o que o filtro fazia (isTokenValid + getUsernameFromToken, cada um criando chave e parser).
+// depois: consulta ao JwtTokenCache com o token já verificado.
+// Não roda com os testes; execute a classe pela IDE ou com:
+// mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.LucasH.park_api.JwtFilterBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private String token;
+    private JwtTokenCache cache;
+
+    @Setup
+    public void setup() {
+        token = JwtUtils.JWT_BEARER + JwtUtils.createJwtToken(100L, "admin@gmail.com", "ADMIN").getToken();
+        cache = new JwtTokenCache(10_000);
+    }
+
+    @Benchmark
+    public String antes() {
+        String jwt = token.substring(JwtUtils.JWT_BEARER.length());
+        Jwts.parser().verifyWith(Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8))).build()
+                .parseSignedClaims(jwt);
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8))).build()
+                .parseSignedClaims(jwt).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String depois() {
+        Claims claims = cache.verificar(token);
+        return claims.getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.jwt.JwtTokenCache;
+import com.LucasH.park_api.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+public class JwtTokenCacheTest {
+
+    @Test
+    public void verificar_ComTokenValido_RetornarClaimsEGuardarNoCache() {
+        JwtTokenCache cache = new JwtTokenCache(10);
+        String token = JwtUtils.JWT_BEARER + JwtUtils.createJwtToken(100L, "admin@gmail.com", "ADMIN").getToken();
+
+        Claims primeira = cache.verificar(token);
+        Claims segunda = cache.verificar(token);
+
+        Assertions.assertThat(primeira.getSubject()).isEqualTo("admin@gmail.com");
+        Assertions.assertThat(segunda).isSameAs(primeira);
+        Assertions.assertThat(cache.getTamanho()).isEqualTo(1);
+    }
+
+    @Test
+    public void verificar_ComTokenAssinadoComOutraChave_RetornarNull() {
+        JwtTokenCache cache = new JwtTokenCache(10);
+        String token = Jwts.builder()
+                .subject("admin@gmail.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("outra-chave-secreta-com-32-bytes!".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        Assertions.assertThat(cache.verificar(JwtUtils.JWT_BEARER + token)).isNull();
+        Assertions.assertThat(cache.getTamanho()).isZero();
+    }
+
+    @Test
+    public void verificar_ComCacheCheio_VerificarSemGuardar() {
+        JwtTokenCache cache = new JwtTokenCache(1);
+        String token1 = JwtUtils.createJwtToken(100L, "admin@gmail.com", "ADMIN").getToken();
+        String token2 = JwtUtils.createJwtToken(101L, "bob@gmail.com", "USER").getToken();
+
+        Assertions.assertThat(cache.verificar(token1)).isNotNull();
+        Assertions.assertThat(cache.verificar(token2).getSubject()).isEqualTo("bob@gmail.com");
+        Assertions.assertThat(cache.getTamanho()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,23 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.jwt.JwtUserDetails;
+import com.LucasH.park_api.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+public class JwtUserDetailsTest {
+
+    @Test
+    public void fromClaims_ComTokenValido_RetornarUsuarioComIdERole() {
+        Claims claims = JwtUtils.getClaimsFromToken(JwtUtils.createJwtToken(101L, "bob@gmail.com", "USER").getToken());
+
+        JwtUserDetails userDetails = JwtUserDetails.fromClaims(claims);
+
+        Assertions.assertThat(userDetails.getId()).isEqualTo(101L);
+        Assertions.assertThat(userDetails.getUsername()).isEqualTo("bob@gmail.com");
+        Assertions.assertThat(userDetails.getRole()).isEqualTo("USER");
+        Assertions.assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+    }
+}
@@ -0,0 +1,25 @@
+package com.LucasH.park_api;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+// Esvazia o cache de segundo nível antes de cada teste de integração. Os scripts @Sql inserem e
+// removem clientes e vagas direto nas tabelas; sem isso um teste enxergaria no cache as linhas que
+// o script do teste anterior já apagou. Registrado em META-INF/spring.factories.
+public class LimpezaCacheTestExecutionListener extends AbstractTestExecutionListener {
+
+    // Depois do SqlScriptsTestExecutionListener (5000), que roda o script BEFORE_TEST_METHOD
+    @Override
+    public int getOrder() {
+        return 5100;
+    }
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        if (testContext.hasApplicationContext()) {
+            testContext.getApplicationContext().getBeanProvider(EntityManagerFactory.class)
+                    .ifAvailable(entityManagerFactory -> entityManagerFactory.getCache().evictAll());
+        }
+    }
+}
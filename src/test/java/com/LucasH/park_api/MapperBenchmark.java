@@ -0,0 +1,119 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.Cliente;
+import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.entity.Usuario;
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.web.dto.*;
+import com.LucasH.park_api.web.dto.mapper.*;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// Custo de cada mapper: "modelMapper" reproduz a implementação anterior (new ModelMapper() por chamada)
+// e "manual" usa os mappers atuais.
+// Não roda com os testes; execute a classe pela IDE ou com:
+// mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.LucasH.park_api.MapperBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private Cliente cliente;
+    private ClienteVaga clienteVaga;
+    private Vaga vaga;
+    private Usuario usuario;
+    private EstacionamentoCreateDto estacionamentoCreateDto;
+    private Page<ClienteResponseDto> page;
+
+    @Setup
+    public void setup() {
+        cliente = MapperEquivalenciaTest.cliente();
+        clienteVaga = MapperEquivalenciaTest.clienteVaga();
+        vaga = MapperEquivalenciaTest.vaga();
+        usuario = cliente.getUsuario();
+        estacionamentoCreateDto = EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT")
+                .modelo("PALIO 1.0").cor("VERMELHO").clienteCpf("38352600060").build();
+        page = new PageImpl<>(Collections.nCopies(10, ClienteMapper.toDto(cliente)), PageRequest.of(0, 10), 25);
+    }
+
+    @Benchmark
+    public ClienteResponseDto clienteModelMapper() {
+        return new ModelMapper().map(cliente, ClienteResponseDto.class);
+    }
+
+    @Benchmark
+    public ClienteResponseDto clienteManual() {
+        return ClienteMapper.toDto(cliente);
+    }
+
+    @Benchmark
+    public ClienteVaga checkInModelMapper() {
+        return new ModelMapper().map(estacionamentoCreateDto, ClienteVaga.class);
+    }
+
+    @Benchmark
+    public ClienteVaga checkInManual() {
+        return ClienteVagaMapper.toClienteVaga(estacionamentoCreateDto);
+    }
+
+    @Benchmark
+    public EstacionamentoResponseDto estacionamentoModelMapper() {
+        return new ModelMapper().map(clienteVaga, EstacionamentoResponseDto.class);
+    }
+
+    @Benchmark
+    public EstacionamentoResponseDto estacionamentoManual() {
+        return ClienteVagaMapper.toDto(clienteVaga);
+    }
+
+    @Benchmark
+    public VagaResponseDto vagaModelMapper() {
+        return new ModelMapper().map(vaga, VagaResponseDto.class);
+    }
+
+    @Benchmark
+    public VagaResponseDto vagaManual() {
+        return VagaMapper.toDto(vaga);
+    }
+
+    @Benchmark
+    public UsuarioResponseDto usuarioModelMapper() {
+        Usuario.Role role = usuario.getRole();
+        ModelMapper mapperMain = new ModelMapper();
+        TypeMap<Usuario, UsuarioResponseDto> propertyMapper = mapperMain.createTypeMap(Usuario.class, UsuarioResponseDto.class);
+        propertyMapper.addMappings(mapper -> mapper.map(_ -> role, UsuarioResponseDto::setRole));
+        return mapperMain.map(usuario, UsuarioResponseDto.class);
+    }
+
+    @Benchmark
+    public UsuarioResponseDto usuarioManual() {
+        return UsuarioMapper.toDto(usuario);
+    }
+
+    @Benchmark
+    public PageableDto pageableModelMapper() {
+        return new ModelMapper().map(page, PageableDto.class);
+    }
+
+    @Benchmark
+    public PageableDto pageableManual() {
+        return PageableMapper.toDto(page);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.Cliente;
+import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.entity.Usuario;
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.web.dto.*;
+import com.LucasH.park_api.web.dto.mapper.*;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Compara os mappers escritos à mão com o resultado que o ModelMapper gerava
+public class MapperEquivalenciaTest {
+
+    @Test
+    public void clienteMapper_ComMesmaEntrada_RetornarMesmoResultadoDoModelMapper() {
+        ClienteCreateDto createDto = new ClienteCreateDto("bob souza", "38352600060");
+        Assertions.assertThat(ClienteMapper.toCliente(createDto))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(createDto, Cliente.class));
+
+        Cliente cliente = cliente();
+        Assertions.assertThat(ClienteMapper.toDto(cliente))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(cliente, ClienteResponseDto.class));
+    }
+
+    @Test
+    public void clienteVagaMapper_ComMesmaEntrada_RetornarMesmoResultadoDoModelMapper() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder().placa("WSP-4569").marca("FIAT")
+                .modelo("PALIO 1.0").cor("VERMELHO").clienteCpf("38352600060").build();
+        Assertions.assertThat(ClienteVagaMapper.toClienteVaga(createDto))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(createDto, ClienteVaga.class));
+
+        ClienteVaga clienteVaga = clienteVaga();
+        Assertions.assertThat(ClienteVagaMapper.toDto(clienteVaga))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(clienteVaga, EstacionamentoResponseDto.class));
+
+        clienteVaga.setDataSaida(null);
+        clienteVaga.setValor(null);
+        clienteVaga.setDesconto(null);
+        Assertions.assertThat(ClienteVagaMapper.toDto(clienteVaga))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(clienteVaga, EstacionamentoResponseDto.class));
+    }
+
+    @Test
+    public void vagaMapper_ComMesmaEntrada_RetornarMesmoResultadoDoModelMapper() {
+        for (String status : new String[]{"LIVRE", "OCUPADO"}) {
+            VagaCreateDto createDto = new VagaCreateDto("A-01", status);
+            Assertions.assertThat(VagaMapper.toVaga(createDto))
+                    .usingRecursiveComparison().isEqualTo(new ModelMapper().map(createDto, Vaga.class));
+        }
+
+        Vaga vaga = vaga();
+        Assertions.assertThat(VagaMapper.toDto(vaga))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(vaga, VagaResponseDto.class));
+    }
+
+    @Test
+    public void usuarioMapper_ComMesmaEntrada_RetornarMesmoResultadoDoModelMapper() {
+        UsuarioCreateDto createDto = new UsuarioCreateDto("bob@gmail.com", "123456");
+        Assertions.assertThat(UsuarioMapper.toUsuario(createDto))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(createDto, Usuario.class));
+
+        Usuario usuario = cliente().getUsuario();
+        Usuario.Role role = usuario.getRole();
+        ModelMapper mapperMain = new ModelMapper();
+        TypeMap<Usuario, UsuarioResponseDto> propertyMapper = mapperMain.createTypeMap(Usuario.class, UsuarioResponseDto.class);
+        propertyMapper.addMappings(mapper -> mapper.map(_ -> role, UsuarioResponseDto::setRole));
+        Assertions.assertThat(UsuarioMapper.toDto(usuario))
+                .usingRecursiveComparison().isEqualTo(mapperMain.map(usuario, UsuarioResponseDto.class));
+    }
+
+    @Test
+    public void pageableMapper_ComMesmaEntrada_RetornarMesmoResultadoDoModelMapper() {
+        PageImpl<ClienteResponseDto> page = new PageImpl<>(
+                List.of(ClienteMapper.toDto(cliente()), ClienteMapper.toDto(cliente())), PageRequest.of(1, 2), 7);
+        Assertions.assertThat(PageableMapper.toDto(page))
+                .usingRecursiveComparison().isEqualTo(new ModelMapper().map(page, PageableDto.class));
+    }
+
+    static Cliente cliente() {
+        Usuario usuario = new Usuario();
+        usuario.setId(101L);
+        usuario.setUsername("bob@gmail.com");
+        usuario.setPassword("$2a$12$UmfBvcgfNF3rCI9mj2kTVe5NpW0IMKQYoeOwBIvGk1nQpvW.XcX3C");
+        usuario.setRole(Usuario.Role.USER);
+
+        Cliente cliente = new Cliente();
+        cliente.setId(10L);
+        cliente.setNome("bob souza");
+        cliente.setCpf("38352600060");
+        cliente.setUsuario(usuario);
+        return cliente;
+    }
+
+    static Vaga vaga() {
+        Vaga vaga = new Vaga();
+        vaga.setId(100L);
+        vaga.setCodigo("A-01");
+        vaga.setStatus(Vaga.StatusVaga.OCUPADA);
+        return vaga;
+    }
+
+    static ClienteVaga clienteVaga() {
+        ClienteVaga clienteVaga = new ClienteVaga();
+        clienteVaga.setId(1L);
+        clienteVaga.setRecibo("20241001-141519");
+        clienteVaga.setPlaca("ASD-8564");
+        clienteVaga.setMarca("Honda");
+        clienteVaga.setModelo("Civic Sport");
+        clienteVaga.setCor("Branco");
+        clienteVaga.setDataEntrada(LocalDateTime.of(2024, 10, 1, 14, 37, 19));
+        clienteVaga.setDataSaida(LocalDateTime.of(2024, 10, 1, 16, 2, 0));
+        clienteVaga.setValor(new BigDecimal("18.00"));
+        clienteVaga.setDesconto(new BigDecimal("0.00"));
+        clienteVaga.setCliente(cliente());
+        clienteVaga.setVaga(vaga());
+        return clienteVaga;
+    }
+}
@@ -0,0 +1,80 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class MetricasIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Test
+    public void buscarMetricas_AposCheckInECheckOut_RetornarTimersDoEstacionamentoStatus200() {
+        String recibo = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .bodyValue(new EstacionamentoCreateDto("WSP-4569", "FIAT", "PALIO 1.0", "VERMELHO", "38352600060"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class)
+                .returnResult().getResponseBody()
+                .replaceAll(".*\"recibo\":\"([^\"]+)\".*", "$1");
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", recibo)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk();
+
+        String metricas = testClient
+                .get()
+                .uri("/actuator/prometheus")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(metricas)
+                .contains("park_estacionamento_check_in_seconds_bucket")
+                .contains("park_estacionamento_check_out_seconds_count")
+                .contains("park_vagas_alocacao_seconds_count")
+                .contains("park_jwt_validacao_seconds_count{")
+                .contains("park_senha_bcrypt_seconds_count{")
+                .contains("park_mapper_seconds_count{")
+                .contains("hikaricp_connections_active");
+    }
+
+    @Test
+    public void buscarMetricas_SemToken_RetornarStatus401() {
+        testClient
+                .get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void buscarMetricas_ComUsuarioSemPermissao_RetornarStatus403() {
+        testClient
+                .get()
+                .uri("/actuator/prometheus")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
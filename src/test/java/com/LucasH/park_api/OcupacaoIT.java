@@ -0,0 +1,149 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.ocupacao.ContadorOcupacao;
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class OcupacaoIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    ContadorOcupacao contadorOcupacao;
+
+    // Os dados do @Sql entram direto no banco, sem passar pelos contadores
+    @BeforeEach
+    public void reconciliar() {
+        contadorOcupacao.reconciliar();
+    }
+
+    @Test
+    public void buscarOcupacao_SemToken_RetornarTotaisStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/vagas/ocupacao")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("livres").isEqualTo(3)
+                .jsonPath("ocupadas").isEqualTo(3)
+                .jsonPath("total").isEqualTo(6);
+    }
+
+    @Test
+    public void buscarOcupacao_AposCheckInECheckOut_RetornarTotaisAtualizados() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("WSP-4569")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+
+        JsonNode checkIn = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class)
+                .returnResult().getResponseBody();
+        Assertions.assertThat(checkIn).isNotNull();
+
+        testClient
+                .get()
+                .uri("api/v1/vagas/ocupacao")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("livres").isEqualTo(2)
+                .jsonPath("ocupadas").isEqualTo(4);
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", checkIn.get("recibo").asText())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk();
+
+        testClient
+                .get()
+                .uri("api/v1/vagas/ocupacao")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("livres").isEqualTo(3)
+                .jsonPath("ocupadas").isEqualTo(3);
+    }
+
+    @Test
+    public void assinarEventos_AposCheckIn_RetornarOcupacaoAtualEStatusDaVaga() throws Exception {
+        Flux<ServerSentEvent<String>> eventos = testClient
+                .get()
+                .uri("api/v1/vagas/ocupacao/eventos")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .getResponseBody();
+
+        BlockingQueue<ServerSentEvent<String>> fila = new LinkedBlockingQueue<>();
+        Disposable assinatura = eventos.filter(evento -> evento.event() != null).subscribe(fila::add);
+        try {
+            ServerSentEvent<String> inicial = fila.poll(5, TimeUnit.SECONDS);
+            Assertions.assertThat(inicial).isNotNull();
+            Assertions.assertThat(inicial.event()).isEqualTo("ocupacao");
+            Assertions.assertThat(inicial.data()).contains("\"livres\":3");
+
+            EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                    .placa("WSP-4569")
+                    .marca("FIAT")
+                    .modelo("PALIO 1.0")
+                    .cor("VERMELHO")
+                    .clienteCpf("38352600060")
+                    .build();
+            testClient
+                    .post()
+                    .uri("api/v1/estacionamentos/check-in")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                    .bodyValue(createDto)
+                    .exchange()
+                    .expectStatus().isCreated();
+
+            ServerSentEvent<String> vaga = null;
+            ServerSentEvent<String> evento;
+            while (vaga == null && (evento = fila.poll(5, TimeUnit.SECONDS)) != null) {
+                if ("vaga".equals(evento.event())) {
+                    vaga = evento;
+                }
+            }
+            Assertions.assertThat(vaga).isNotNull();
+            Assertions.assertThat(vaga.data()).contains("\"status\":\"OCUPADA\"");
+        } finally {
+            assinatura.dispose();
+        }
+    }
+}
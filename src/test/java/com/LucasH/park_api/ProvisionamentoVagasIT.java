@@ -0,0 +1,67 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.Vaga;
+import com.LucasH.park_api.repository.VagaRepository;
+import com.LucasH.park_api.service.VagaService;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compara o cadastro de vagas uma por vez (como no POST api/v1/vagas) com o cadastro em lote,
+// em que os ids vêm da sequência em blocos e os inserts vão em batch. As vagas por segundo de cada
+// forma são registradas no log; no H2 em memória os números são apenas indicativos.
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/vagas/vagas-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProvisionamentoVagasIT {
+
+    private static final int TOTAL_VAGAS = 1000;
+
+    @Autowired
+    VagaService vagaService;
+
+    @Autowired
+    VagaRepository vagaRepository;
+
+    @Test
+    public void salvarEmLote_MilVagas_CadastrarTodasERegistrarVazao() {
+        long inicio = System.nanoTime();
+        for (Vaga vaga : novasVagas("D")) {
+            vagaService.salvar(vaga);
+        }
+        long umaPorVezNanos = System.nanoTime() - inicio;
+
+        inicio = System.nanoTime();
+        vagaService.salvarEmLote(novasVagas("E"));
+        long emLoteNanos = System.nanoTime() - inicio;
+
+        log.info("{} vagas uma por vez em {} ms ({} vagas/s); em lote em {} ms ({} vagas/s)",
+                TOTAL_VAGAS,
+                TimeUnit.NANOSECONDS.toMillis(umaPorVezNanos), vagasPorSegundo(umaPorVezNanos),
+                TimeUnit.NANOSECONDS.toMillis(emLoteNanos), vagasPorSegundo(emLoteNanos));
+
+        Assertions.assertThat(vagaRepository.count()).isEqualTo(2L * TOTAL_VAGAS);
+    }
+
+    private static List<Vaga> novasVagas(String prefixo) {
+        List<Vaga> vagas = new ArrayList<>(TOTAL_VAGAS);
+        for (int numero = 0; numero < TOTAL_VAGAS; numero++) {
+            Vaga vaga = new Vaga();
+            vaga.setCodigo(String.format("%s%03d", prefixo, numero));
+            vaga.setStatus(Vaga.StatusVaga.LIVRE);
+            vagas.add(vaga);
+        }
+        return vagas;
+    }
+
+    private static String vagasPorSegundo(long nanos) {
+        return String.format("%.0f", TOTAL_VAGAS / (nanos / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,43 @@
+package com.LucasH.park_api;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"park.sql.rastreamento.habilitado=true", "park.sql.rastreamento.amostragem=1",
+                "park.sql.rastreamento.lento=0ms"})
+@ExtendWith(OutputCaptureExtension.class)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class RastreamentoSqlIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Test
+    public void buscarCliente_ComAmostragemTotal_RegistrarComandosDaRequisicaoNoLog(CapturedOutput output) {
+        testClient
+                .get()
+                .uri("api/v1/clientes/detalhes")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456"))
+                .exchange()
+                .expectStatus().isOk();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                Assertions.assertThat(output.getOut())
+                        .contains("sql.requisicao metodo=GET uri=/api/v1/clientes/detalhes")
+                        .contains("sql.comando metodo=GET uri=/api/v1/clientes/detalhes")
+                        .contains("bindings=1")
+                        .contains("sql.lento"));
+    }
+}
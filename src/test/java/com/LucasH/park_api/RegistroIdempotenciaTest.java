@@ -0,0 +1,169 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.exeception.IdempotenciaConflitoException;
+import com.LucasH.park_api.exeception.IdempotenciaIndisponivelException;
+import com.LucasH.park_api.service.idempotencia.RegistroIdempotencia;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RegistroIdempotenciaTest {
+
+    @Test
+    public void executar_ComRequisicoesConcorrentesMesmaChave_ExecutarOperacaoUmaUnicaVez() throws Exception {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch emAndamento = new CountDownLatch(1);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> tarefas = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                return registro.executar("check-in:chave-1", "WSP-4569", () -> {
+                    emAndamento.countDown();
+                    dormir(100);
+                    return "recibo-" + execucoes.incrementAndGet();
+                });
+            }));
+        }
+        largada.countDown();
+        for (Future<String> tarefa : tarefas) {
+            Assertions.assertThat(tarefa.get(5, TimeUnit.SECONDS)).isEqualTo("recibo-1");
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(execucoes.get()).isEqualTo(1);
+        Assertions.assertThat(registro.getTamanho()).isEqualTo(1);
+    }
+
+    @Test
+    public void executar_MesmaChaveComOutraAssinatura_LancarIdempotenciaConflitoException() {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        registro.executar("check-in:chave-1", "WSP-4569", () -> "recibo-1");
+
+        Assertions.assertThatThrownBy(() -> registro.executar("check-in:chave-1", "WSP-4570", () -> "recibo-2"))
+                .isInstanceOf(IdempotenciaConflitoException.class);
+    }
+
+    @Test
+    public void executar_AposOperacaoComFalha_PermitirNovaTentativaComMesmaChave() {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        Assertions.assertThatThrownBy(() -> registro.executar("check-out:chave-1", "20241001-141519", () -> {
+            throw new IllegalStateException("falha");
+        })).isInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(registro.getTamanho()).isZero();
+        Assertions.assertThat(registro.executar("check-out:chave-1", "20241001-141519", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    public void executar_ComEntradaExpirada_ExecutarOperacaoNovamente() {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ZERO, Duration.ofSeconds(5));
+        registro.executar("check-in:chave-1", "WSP-4569", () -> "recibo-1");
+
+        Assertions.assertThat(registro.executar("check-in:chave-1", "WSP-4569", () -> "recibo-2")).isEqualTo("recibo-2");
+    }
+
+    @Test
+    public void executar_RegistroCheio_DescartarEntradasConcluidasMaisAntigas() {
+        RegistroIdempotencia registro = new RegistroIdempotencia(2, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        registro.executar("check-in:chave-1", "WSP-4569", () -> "recibo-1");
+        dormir(5);
+        registro.executar("check-in:chave-2", "WSP-4570", () -> "recibo-2");
+
+        Assertions.assertThat(registro.executar("check-in:chave-3", "WSP-4571", () -> "recibo-3")).isEqualTo("recibo-3");
+        Assertions.assertThat(registro.getTamanho()).isEqualTo(2);
+        // chave-2 continua protegida; chave-1, a mais antiga, foi descartada e executa de novo
+        Assertions.assertThat(registro.executar("check-in:chave-2", "WSP-4570", () -> "outro")).isEqualTo("recibo-2");
+    }
+
+    @Test
+    public void executar_RegistroCheioSoComOperacoesEmAndamento_LancarIdempotenciaIndisponivelException() throws Exception {
+        RegistroIdempotencia registro = new RegistroIdempotencia(1, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        CountDownLatch emAndamento = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> primeira = executor.submit(() -> registro.executar("check-in:chave-1", "WSP-4569", () -> {
+            emAndamento.countDown();
+            aguardar(liberar);
+            return "recibo-1";
+        }));
+        emAndamento.await(5, TimeUnit.SECONDS);
+
+        Assertions.assertThatThrownBy(() -> registro.executar("check-in:chave-2", "WSP-4570", () -> "recibo-2"))
+                .isInstanceOf(IdempotenciaIndisponivelException.class);
+
+        liberar.countDown();
+        Assertions.assertThat(primeira.get(5, TimeUnit.SECONDS)).isEqualTo("recibo-1");
+        executor.shutdown();
+    }
+
+    @Test
+    public void executar_PrimeiraFalhaComError_LiberarChaveERepassarParaQuemEspera() throws Exception {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        CountDownLatch emAndamento = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> primeira = executor.submit(() -> registro.executar("check-out:chave-1", "20241001-141519", () -> {
+            emAndamento.countDown();
+            dormir(200);
+            throw new StackOverflowError("falha");
+        }));
+        emAndamento.await(5, TimeUnit.SECONDS);
+        Future<String> repeticao = executor.submit(() -> registro.executar("check-out:chave-1", "20241001-141519", () -> "nao executa"));
+
+        Assertions.assertThatThrownBy(() -> repeticao.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        Assertions.assertThatThrownBy(() -> primeira.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        Assertions.assertThat(registro.getTamanho()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    public void executar_RepeticaoEsperandoAlemDoLimite_LancarIdempotenciaIndisponivelException() throws Exception {
+        RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1), Duration.ofMillis(100));
+        CountDownLatch emAndamento = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> primeira = executor.submit(() -> registro.executar("check-in:chave-1", "WSP-4569", () -> {
+            emAndamento.countDown();
+            aguardar(liberar);
+            return "recibo-1";
+        }));
+        emAndamento.await(5, TimeUnit.SECONDS);
+
+        Assertions.assertThatThrownBy(() -> registro.executar("check-in:chave-1", "WSP-4569", () -> "recibo-2"))
+                .isInstanceOf(IdempotenciaIndisponivelException.class);
+
+        liberar.countDown();
+        Assertions.assertThat(primeira.get(5, TimeUnit.SECONDS)).isEqualTo("recibo-1");
+        executor.shutdown();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void dormir(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.sql.RegistroSqlRequisicao;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RegistroSqlRequisicaoTest {
+
+    private static final String SELECT_VAGA = "select v1_0.id from vagas v1_0 where v1_0.id=?";
+    private static final String SELECT_CLIENTE = "select c1_0.id from clientes c1_0 where c1_0.cpf=?";
+
+    @Test
+    public void repeticoes_ComandoRepetidoAteOLimite_RetornarComoNMaisUm() {
+        RegistroSqlRequisicao registro = new RegistroSqlRequisicao("GET", "/api/v1/estacionamentos", false);
+        for (int i = 0; i < 10; i++) {
+            registro.registrar(SELECT_VAGA, 1, 1, null);
+        }
+        registro.registrar(SELECT_CLIENTE, 1, 1, null);
+
+        Assertions.assertThat(registro.repeticoes(10)).containsOnlyKeys(SELECT_VAGA).containsEntry(SELECT_VAGA, 10);
+        Assertions.assertThat(registro.getTotalComandos()).isEqualTo(11);
+        Assertions.assertThat(registro.getComandos()).isEmpty();
+    }
+
+    @Test
+    public void registrar_RequisicaoAmostrada_GuardarDetalheDeCadaComando() {
+        RegistroSqlRequisicao registro = new RegistroSqlRequisicao("GET", "/api/v1/vagas", true);
+        registro.registrar(SELECT_CLIENTE, 1, 3, null);
+        registro.registrar("update vagas set status=? where id=?", 2, 1, 1L);
+
+        Assertions.assertThat(registro.getComandos()).hasSize(2);
+        Assertions.assertThat(registro.getComandos().get(0).getLinhas()).isNull();
+        Assertions.assertThat(registro.getComandos().get(1).getBindings()).isEqualTo(2);
+        Assertions.assertThat(registro.getComandos().get(1).getLinhas()).isEqualTo(1);
+        Assertions.assertThat(registro.getDuracaoTotalMs()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,96 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.entity.ClienteVaga;
+import com.LucasH.park_api.exeception.VeiculoJaEstacionadoException;
+import com.LucasH.park_api.service.sessao.SessoesAtivas;
+import com.LucasH.park_api.service.sessao.SessoesAtivasEmMemoria;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fora de uma transação o registro é atualizado na hora (TransacaoUtils.aposCommit executa direto)
+public class SessoesAtivasEmMemoriaTest {
+
+    @Test
+    public void iniciar_MesmaPlacaEmParalelo_AceitarUmUnicoCheckIn() throws Exception {
+        SessoesAtivasEmMemoria sessoes = new SessoesAtivasEmMemoria(null);
+        AtomicInteger aceitos = new AtomicInteger();
+        AtomicInteger recusados = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            ClienteVaga clienteVaga = clienteVaga("WSP-4569", "recibo-" + i);
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    sessoes.iniciar(clienteVaga);
+                    aceitos.incrementAndGet();
+                } catch (VeiculoJaEstacionadoException ex) {
+                    recusados.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(aceitos.get()).isEqualTo(1);
+        Assertions.assertThat(recusados.get()).isEqualTo(threads - 1);
+        Assertions.assertThat(sessoes.getTotalSessoes()).isEqualTo(1);
+    }
+
+    @Test
+    public void encerrar_SessaoAtiva_LiberarReciboEPlaca() {
+        SessoesAtivasEmMemoria sessoes = new SessoesAtivasEmMemoria(null);
+        ClienteVaga clienteVaga = clienteVaga("WSP-4569", "20241001-141519");
+        sessoes.iniciar(clienteVaga);
+
+        Assertions.assertThat(sessoes.buscarPorRecibo("20241001-141519")).isPresent();
+        Assertions.assertThat(sessoes.buscarPorPlaca("wsp 4569")).isPresent();
+
+        sessoes.encerrar(clienteVaga);
+
+        Assertions.assertThat(sessoes.buscarPorRecibo("20241001-141519")).isEmpty();
+        Assertions.assertThat(sessoes.buscarPorPlaca("WSP-4569")).isEmpty();
+        sessoes.iniciar(clienteVaga("WSP-4569", "20241001-161019"));
+        Assertions.assertThat(sessoes.buscarPorPlaca("WSP-4569")).isPresent();
+    }
+
+    @Test
+    public void cancelar_CheckInSemVaga_LiberarPlacaParaNovoCheckIn() {
+        SessoesAtivasEmMemoria sessoes = new SessoesAtivasEmMemoria(null);
+        ClienteVaga clienteVaga = clienteVaga("WSP-4569", "20241001-141519");
+        sessoes.iniciar(clienteVaga);
+        sessoes.cancelar(clienteVaga);
+
+        Assertions.assertThatCode(() -> sessoes.iniciar(clienteVaga("WSP-4569", "20241001-161019")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void normalizarPlaca_ComFormatosDiferentes_RetornarPadraoDoCheckIn() {
+        Assertions.assertThat(SessoesAtivas.normalizarPlaca("wsp4569")).isEqualTo("WSP-4569");
+        Assertions.assertThat(SessoesAtivas.normalizarPlaca(" WSP 4569 ")).isEqualTo("WSP-4569");
+        Assertions.assertThat(SessoesAtivas.normalizarPlaca("WSP-4569")).isEqualTo("WSP-4569");
+    }
+
+    private static ClienteVaga clienteVaga(String placa, String recibo) {
+        ClienteVaga clienteVaga = new ClienteVaga();
+        clienteVaga.setPlaca(placa);
+        clienteVaga.setRecibo(recibo);
+        return clienteVaga;
+    }
+}
@@ -0,0 +1,139 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.sessao.SessoesAtivasEmMemoria;
+import com.LucasH.park_api.web.dto.EstacionamentoCreateDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.net.URI;
+
+// Consultas por recibo e placa com o registro de sessões em memória (park.sessoes.ativas=memoria).
+// O registro é mantido pelo check-in e check-out da API; estacionamentos inseridos direto no banco
+// só aparecem depois de uma nova carga. O contexto é compartilhado com EstacionamentoSessoesEmMemoriaIT:
+// cada teste parte do registro recarregado com os estacionamentos do @Sql.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "park.sessoes.ativas=memoria")
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class SessoesAtivasIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    SessoesAtivasEmMemoria sessoesAtivas;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void carregarSessoes() {
+        sessoesAtivas.carregar();
+    }
+
+    @Test
+    public void checkInECheckOut_PelaApi_ManterRegistroDeSessoesEmMemoria() {
+        EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                .placa("MEM-0001")
+                .marca("FIAT")
+                .modelo("PALIO 1.0")
+                .cor("VERMELHO")
+                .clienteCpf("38352600060")
+                .build();
+
+        URI location = testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation();
+        Assertions.assertThat(location).isNotNull();
+        String recibo = location.getPath().substring(location.getPath().lastIndexOf('/') + 1);
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/{recibo}", recibo)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("placa").isEqualTo("MEM-0001")
+                .jsonPath("clienteCpf").isEqualTo("38352600060")
+                .jsonPath("vagaCodigo").exists();
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "mem0001")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("recibo").isEqualTo(recibo);
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", recibo)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk();
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/{recibo}", recibo)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "MEM-0001")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void buscarPorPlaca_EstacionamentoInseridoForaDaApi_EncontrarSomenteAposCarga() {
+        jdbcTemplate.update("insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga) " +
+                "values ('20241001-999999', 'FOR-0001', 'Fiat', 'Uno', 'Branco', localtimestamp, 20, 400)");
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "FOR-0001")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        sessoesAtivas.carregar();
+
+        testClient
+                .get()
+                .uri("api/v1/estacionamentos/check-in/placa/{placa}", "FOR-0001")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("recibo").isEqualTo("20241001-999999")
+                .jsonPath("vagaCodigo").isEqualTo("A-04");
+    }
+}
@@ -0,0 +1,55 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.exeception.TarifaInvalidaException;
+import com.LucasH.park_api.service.tarifa.TabelaTarifa;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public class TabelaTarifaTest {
+
+    @Test
+    public void calcular_ComTabelaPadrao_RetornarMesmoValorDoCalculoOriginal() {
+        TabelaTarifa tabela = TabelaTarifa.padrao();
+        LocalDateTime entrada = LocalDateTime.of(2024, 10, 1, 14, 37, 19);
+        for (long minutos = -5; minutos <= 60 * 24 * 30; minutos++) {
+            LocalDateTime saida = entrada.plusMinutes(minutos).plusSeconds(minutos % 60);
+            long esperado = TarifaOriginal.calcularCusto(entrada, saida).movePointRight(2).longValueExact();
+            long minutosCobrados = entrada.until(saida, ChronoUnit.MINUTES);
+            Assertions.assertThat(tabela.calcular(minutosCobrados)).as("%d minutos", minutosCobrados).isEqualTo(esperado);
+        }
+    }
+
+    @Test
+    public void calcularDesconto_ComQualquerCusto_RetornarMesmoValorDoCalculoOriginal() {
+        for (long centavos = 0; centavos <= 50_000; centavos++) {
+            for (long vezes : new long[]{0, 1, 9, 10, 11, 20, 25}) {
+                long esperado = TarifaOriginal.calcularDesconto(TarifaService.emReais(centavos), vezes)
+                        .movePointRight(2).longValueExact();
+                Assertions.assertThat(TarifaService.calcularDesconto(centavos, vezes)).isEqualTo(esperado);
+            }
+        }
+    }
+
+    @Test
+    public void calcular_ComTetoDiario_LimitarCadaPeriodoDe24Horas() {
+        TabelaTarifa tabela = new TabelaTarifa(new long[]{15, 60}, new long[]{500, 925}, 15, 175, 5000);
+
+        Assertions.assertThat(tabela.calcular(10)).isEqualTo(500);
+        Assertions.assertThat(tabela.calcular(24 * 60)).isEqualTo(5000);
+        Assertions.assertThat(tabela.calcular(24 * 60 + 10)).isEqualTo(5500);
+        Assertions.assertThat(tabela.calcular(3 * 24 * 60)).isEqualTo(15000);
+    }
+
+    @Test
+    public void criar_ComFaixasForaDeOrdem_LancarTarifaInvalidaException() {
+        Assertions.assertThatThrownBy(() -> new TabelaTarifa(new long[]{60, 15}, new long[]{925, 500}, 15, 175, 0))
+                .isInstanceOf(TarifaInvalidaException.class);
+        Assertions.assertThatThrownBy(() -> TarifaService.emCentavos(new BigDecimal("1.755")))
+                .isInstanceOf(TarifaInvalidaException.class);
+    }
+}
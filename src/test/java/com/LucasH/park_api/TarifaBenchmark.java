@@ -0,0 +1,55 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.tarifa.TabelaTarifa;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+// Compara o cálculo original (double + BigDecimal, em TarifaOriginal) com o motor em centavos.
+// Não roda com os testes; execute a classe pela IDE ou com:
+// mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.LucasH.park_api.TarifaBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TarifaBenchmark {
+
+    @Param({"10", "45", "200", "5000"})
+    private long minutos;
+
+    private LocalDateTime entrada;
+    private LocalDateTime saida;
+    private TabelaTarifa tabela;
+
+    @Setup
+    public void setup() {
+        entrada = LocalDateTime.of(2024, 10, 1, 14, 37, 19);
+        saida = entrada.plusMinutes(minutos);
+        tabela = TabelaTarifa.padrao();
+    }
+
+    @Benchmark
+    public BigDecimal original() {
+        BigDecimal valor = TarifaOriginal.calcularCusto(entrada, saida);
+        return valor.subtract(TarifaOriginal.calcularDesconto(valor, 10));
+    }
+
+    @Benchmark
+    public long centavos() {
+        long valor = tabela.calcular(entrada.until(saida, ChronoUnit.MINUTES));
+        return valor - TarifaService.calcularDesconto(valor, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TarifaBenchmark.class.getSimpleName()).build()).run();
+    }
+}
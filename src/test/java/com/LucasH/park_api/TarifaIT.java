@@ -0,0 +1,138 @@
+package com.LucasH.park_api;
+
+import com.LucasH.park_api.service.tarifa.TabelaTarifa;
+import com.LucasH.park_api.service.tarifa.TarifaService;
+import com.LucasH.park_api.web.dto.TarifaDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class TarifaIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    TarifaService tarifaService;
+
+    // A tarifa vive no bean: cada teste volta para a tabela padrão
+    @AfterEach
+    public void restaurarTarifa() {
+        tarifaService.atualizar(TabelaTarifa.padrao());
+    }
+
+    @Test
+    public void buscarTarifa_ComRoleAdmin_RetornarTabelaVigenteStatus200() {
+        testClient
+                .get()
+                .uri("api/v1/tarifas")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("faixas.length()").isEqualTo(2)
+                .jsonPath("faixas[0].minutos").isEqualTo(15)
+                .jsonPath("faixas[0].valor").isEqualTo(5.0)
+                .jsonPath("faixas[1].minutos").isEqualTo(60)
+                .jsonPath("adicional.minutos").isEqualTo(15)
+                .jsonPath("adicional.valor").isEqualTo(1.75);
+    }
+
+    @Test
+    public void buscarTarifa_ComRoleUser_RetornarErrorMessageStatus403() {
+        testClient
+                .get()
+                .uri("api/v1/tarifas")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("method").isEqualTo("GET");
+    }
+
+    @Test
+    public void atualizarTarifa_ComRoleUser_RetornarErrorMessageStatus403() {
+        testClient
+                .put()
+                .uri("api/v1/tarifas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "bob@gmail.com", "123456" ))
+                .bodyValue(tarifa(List.of(new TarifaDto.FaixaDto(15L, new BigDecimal("6.00")))))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("method").isEqualTo("PUT");
+    }
+
+    @Test
+    public void atualizarTarifa_SemFaixas_RetornarErrorMessageStatus422() {
+        testClient
+                .put()
+                .uri("api/v1/tarifas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(tarifa(List.of()))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo("422")
+                .jsonPath("method").isEqualTo("PUT");
+    }
+
+    @Test
+    public void atualizarTarifa_ComFaixasForaDeOrdem_RetornarErrorMessageStatus422() {
+        testClient
+                .put()
+                .uri("api/v1/tarifas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(tarifa(List.of(
+                        new TarifaDto.FaixaDto(60L, new BigDecimal("9.25")),
+                        new TarifaDto.FaixaDto(15L, new BigDecimal("5.00")))))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo("422");
+    }
+
+    @Test
+    public void atualizarTarifa_ComRoleAdmin_AplicarNovaTarifaNoCheckOutStatus200() {
+        // Uma faixa que cobre qualquer permanência: o check-out custa exatamente o valor dela
+        testClient
+                .put()
+                .uri("api/v1/tarifas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .bodyValue(tarifa(List.of(new TarifaDto.FaixaDto(100_000_000L, new BigDecimal("12.34")))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("faixas.length()").isEqualTo(1)
+                .jsonPath("faixas[0].valor").isEqualTo(12.34);
+
+        testClient
+                .post()
+                .uri("api/v1/estacionamentos/check-out/{recibo}", "20241001-141519")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "admin@gmail.com", "123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("valor").isEqualTo(12.34);
+    }
+
+    private static TarifaDto tarifa(List<TarifaDto.FaixaDto> faixas) {
+        return new TarifaDto(faixas, new TarifaDto.FaixaDto(15L, new BigDecimal("1.75")), BigDecimal.ZERO);
+    }
+}
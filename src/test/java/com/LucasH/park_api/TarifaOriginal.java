@@ -0,0 +1,47 @@
+package com.LucasH.park_api;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Cálculo original em double (antigo EstacionamentoUtils), substituído pelo TarifaService em centavos.
+// Fica só nos testes, como referência para TabelaTarifaTest e TarifaBenchmark.
+final class TarifaOriginal {
+
+    private TarifaOriginal() {
+    }
+
+    static BigDecimal calcularCusto(LocalDateTime entrada, LocalDateTime saida) {
+        final double PRIMEIROS_15_MINUTOS = 5.00;
+        final double PRIMEIROS_60_MINUTOS = 9.25;
+        final double ADICIONAL_15_MINUTOS = 1.75;
+
+        long minutos = entrada.until(saida, ChronoUnit.MINUTES);
+        double total = 0.0;
+
+        if (minutos <= 15) {
+            total += PRIMEIROS_15_MINUTOS;
+        } else if (minutos <= 60) {
+            total += PRIMEIROS_60_MINUTOS;
+        } else {
+            long tempoAdicional = minutos - 60;
+            long intervalosAdicionais = (tempoAdicional + 14) / 15;
+            total += PRIMEIROS_60_MINUTOS + (ADICIONAL_15_MINUTOS * intervalosAdicionais);
+        }
+
+        return new BigDecimal(total).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    static BigDecimal calcularDesconto(BigDecimal custo, long numeroDeVezes) {
+        final double DESCONTO_PERCENTUAL = 0.30;
+
+        BigDecimal desconto;
+        if (numeroDeVezes % 10 == 0 && numeroDeVezes > 0) {
+            desconto = custo.multiply(BigDecimal.valueOf(DESCONTO_PERCENTUAL));
+        } else {
+            desconto = new BigDecimal(0);
+        }
+        return desconto.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -1,6 +1,8 @@
 package com.LucasH.park_api;
 
+import com.LucasH.park_api.web.dto.FaixaVagasDto;
 import com.LucasH.park_api.web.dto.VagaCreateDto;
+import com.LucasH.park_api.web.dto.VagaLoteCreateDto;
 import com.LucasH.park_api.web.dto.VagaResponseDto;
 import com.LucasH.park_api.web.exeception.ErrorMessage;
 import org.assertj.core.api.Assertions;
@@ -13,6 +15,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.net.URI;
+import java.util.List;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/sql/vagas/vagas-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
@@ -162,4 +165,89 @@ public class VagaIT {
         Assertions.assertThat(responseBody.getMessage()).isEqualTo("Access Denied");
 
     }
+
+    @Test
+    public void criarVagasEmLote_ComFaixasValidas_RetornarVagasStatus201() {
+        testClient
+                .post()
+                .uri("api/v1/vagas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .bodyValue(new VagaLoteCreateDto(List.of(new FaixaVagasDto("B-", 1, 3), new FaixaVagasDto("C", 9, 10))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].codigo").isEqualTo("B-01")
+                .jsonPath("$[2].codigo").isEqualTo("B-03")
+                .jsonPath("$[3].codigo").isEqualTo("C009")
+                .jsonPath("$[4].codigo").isEqualTo("C010")
+                .jsonPath("$[4].status").isEqualTo("LIVRE")
+                .jsonPath("$[4].id").exists();
+    }
+
+    @Test
+    public void criarVagasEmLote_ComCodigoJaCadastrado_RetornarErrorMensageComStatus409SemCriarNenhuma() {
+        ErrorMessage responseBody = testClient
+                .post()
+                .uri("api/v1/vagas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .bodyValue(new VagaLoteCreateDto(List.of(new FaixaVagasDto("A-", 4, 6))))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody(ErrorMessage.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getStatus()).isEqualTo(409);
+        Assertions.assertThat(responseBody.getPath()).isEqualTo("/api/v1/vagas/lote");
+
+        testClient
+                .get()
+                .uri("api/v1/vagas/{codigo}", "A-05")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void criarVagasEmLote_ComFaixaMaiorQueOCodigo_RetornarErrorMensageComStatus422() {
+        ErrorMessage responseBody = testClient
+                .post()
+                .uri("api/v1/vagas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .bodyValue(new VagaLoteCreateDto(List.of(new FaixaVagasDto("B-", 1, 100))))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody(ErrorMessage.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    public void localizarVaga_ComEtagAtual_RetornarStatus304() {
+        String etag = testClient
+                .get()
+                .uri("api/v1/vagas/{codigo}", "A-01")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        Assertions.assertThat(etag).isNotNull();
+
+        testClient
+                .get()
+                .uri("api/v1/vagas/{codigo}", "A-01")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient,"admin@gmail.com","123456" ))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
 }
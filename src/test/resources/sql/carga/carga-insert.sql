@@ -0,0 +1,8 @@
+insert into USUARIOS  (id, username, password, role)
+    values (100, 'admin@gmail.com', '$2a$12$Y3ypwyTD5Czhu7/sWaCU3uNa9VWk9vjIg6pTDelK1tDFdj/M8NIM6', 'ADMIN');
+
+-- Os usuários e clientes da carga (um por requisição simultânea, com CPF válido) são criados
+-- pelo próprio CargaCheckInCheckOutIT
+
+insert into VAGAS (id, codigo, status)
+    select 1000 + X, 'C' || LPAD(CAST(X AS VARCHAR), 3, '0'), 'LIVRE' from SYSTEM_RANGE(1, 400);
@@ -1,2 +1,3 @@
+delete from CLIENTES_CONTADORES;
 delete from CLIENTES;
 DELETE FROM USUARIOS;
\ No newline at end of file
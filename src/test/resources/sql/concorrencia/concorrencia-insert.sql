@@ -0,0 +1,5 @@
+insert into USUARIOS  (id, username, password, role)
+    values (100, 'admin@gmail.com', '$2a$12$Y3ypwyTD5Czhu7/sWaCU3uNa9VWk9vjIg6pTDelK1tDFdj/M8NIM6', 'ADMIN');
+
+-- As vagas e os clientes (um por thread, com CPF válido) são criados pelo próprio CheckInConcorrenteIT,
+-- com SQL que roda igual no H2 e no PostgreSQL
@@ -14,17 +14,18 @@ insert into VAGAS (id, codigo, status ) values (300, 'A-03', 'OCUPADA');
 insert into VAGAS (id, codigo, status ) values (400, 'A-04', 'OCUPADA');
 insert into VAGAS (id, codigo, status ) values (500, 'A-05', 'OCUPADA');
 
+-- Entrada duas horas antes do teste: o check-out cobra uma permanência curta, que cabe em valor decimal(7,2)
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-141519', 'ASD-8564', 'Honda', 'Civic Sport', 'Branco', '2024-10-01 14:37:19', 10, 100 );
+values ('20241001-141519', 'ASD-8564', 'Honda', 'Civic Sport', 'Branco', localtimestamp - interval '2' hour, 10, 100 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-151519', 'FTA-0456', 'BMW', 'C6', 'Verde', '2024-10-01 14:37:19', 20, 200 );
+values ('20241001-151519', 'FTA-0456', 'BMW', 'C6', 'Verde', localtimestamp - interval '2' hour, 20, 200 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-161019', 'SFD-9514', 'Toyota', 'SUPRA', 'Vermelho', '2024-10-01 14:37:19', 10, 300);
+values ('20241001-161019', 'SFD-9514', 'Toyota', 'SUPRA', 'Vermelho', localtimestamp - interval '2' hour, 10, 300);
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-171519', 'GSA-2547', 'BMW', 'C6', 'Verde', '2024-10-01 14:37:19', 20, 400 );
+values ('20241001-171519', 'GSA-2547', 'BMW', 'C6', 'Verde', localtimestamp - interval '2' hour, 20, 400 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-191019', 'WDA-2547', 'Hyundai', 'HB20-S', 'Prata', '2024-10-01 14:37:19', 10, 500);
\ No newline at end of file
+values ('20241001-191019', 'WDA-2547', 'Hyundai', 'HB20-S', 'Prata', localtimestamp - interval '2' hour, 10, 500);
\ No newline at end of file
@@ -1,4 +1,6 @@
+DELETE FROM CLIENTE_TEM_VAGAS_ARQUIVO;
 DELETE FROM CLIENTE_TEM_VAGAS;
+DELETE FROM CLIENTES_CONTADORES;
 DELETE FROM CLIENTES;
 DELETE FROM VAGAS;
 DELETE FROM USUARIOS;
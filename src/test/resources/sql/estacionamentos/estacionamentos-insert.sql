@@ -15,14 +15,15 @@ insert into VAGAS (id, codigo, status ) values (400, 'A-04', 'LIVRE');
 insert into VAGAS (id, codigo, status ) values (500, 'A-05', 'LIVRE');
 insert into VAGAS (id, codigo, status ) values (600, 'A-06', 'LIVRE');
 
+-- Entrada duas horas antes do teste: o check-out cobra uma permanência curta, que cabe em valor decimal(7,2)
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-    values ('20241001-141519', 'ASD-8564', 'Honda', 'Civic Sport', 'Branco', '2024-10-01 14:37:19', 10, 100 );
+    values ('20241001-141519', 'ASD-8564', 'Honda', 'Civic Sport', 'Branco', localtimestamp - interval '2' hour, 10, 100 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-    values ('20241001-151519', 'FTA-0456', 'BMW', 'C6', 'Verde', '2024-10-01 14:37:19', 20, 200 );
+    values ('20241001-151519', 'FTA-0456', 'BMW', 'C6', 'Verde', localtimestamp - interval '2' hour, 20, 200 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-values ('20241001-145062', 'SSS-0456', 'Honda', 'C6', 'Azul', '2024-10-01 14:37:19', 20, 600 );
+values ('20241001-145062', 'SSS-0456', 'Honda', 'C6', 'Azul', localtimestamp - interval '2' hour, 20, 600 );
 
 insert into cliente_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, id_cliente, id_vaga)
-    values ('20241001-161019', 'SFQ-6547', 'Toyota', 'Bandeirante', 'Prata', '2024-10-01 14:37:19', 10, 300);
\ No newline at end of file
+    values ('20241001-161019', 'SFQ-6547', 'Toyota', 'Bandeirante', 'Prata', localtimestamp - interval '2' hour, 10, 300);
\ No newline at end of file